@@ -1,17 +1,23 @@
 package taskbook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import taskbook.commons.core.Config;
 import taskbook.commons.core.LogsCenter;
 import taskbook.commons.core.Version;
 import taskbook.commons.exceptions.DataConversionException;
 import taskbook.commons.util.ConfigUtil;
+import taskbook.commons.util.FileUtil;
 import taskbook.commons.util.StringUtil;
 import taskbook.logic.Logic;
 import taskbook.logic.LogicManager;
@@ -19,15 +25,24 @@ import taskbook.model.Model;
 import taskbook.model.ModelManager;
 import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.ReadOnlyUserPrefs;
+import taskbook.model.TaskArchive;
 import taskbook.model.TaskBook;
 import taskbook.model.UserPrefs;
+import taskbook.model.task.Task;
 import taskbook.model.util.SampleDataUtil;
-import taskbook.storage.JsonTaskBookStorage;
+import taskbook.storage.BinaryTaskBookStorage;
+import taskbook.storage.JournaledTaskBookStorage;
+import taskbook.storage.JsonTaskArchiveStorage;
 import taskbook.storage.JsonUserPrefsStorage;
+import taskbook.storage.SegmentedTaskBookStorage;
+import taskbook.storage.SnapshotTaskBookStorage;
+import taskbook.storage.SqlTaskBookStorage;
 import taskbook.storage.Storage;
 import taskbook.storage.StorageManager;
+import taskbook.storage.TaskBookConverter;
 import taskbook.storage.TaskBookStorage;
 import taskbook.storage.UserPrefsStorage;
+import taskbook.storage.WatchedTaskBookStorage;
 import taskbook.ui.Ui;
 import taskbook.ui.UiManager;
 
@@ -45,6 +60,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected WatchedTaskBookStorage taskBookWatcher;
+    protected SnapshotTaskBookStorage taskBookBackups;
 
     @Override
     public void init() throws Exception {
@@ -56,18 +73,89 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
-        storage = new StorageManager(taskBookStorage, userPrefsStorage);
+        taskBookBackups = new SnapshotTaskBookStorage(initTaskBookStorage(userPrefs),
+                TaskBookConverter.getBackupsDirectoryPath(userPrefs.getTaskBookFilePath()));
+        taskBookWatcher = new WatchedTaskBookStorage(taskBookBackups);
+        storage = new StorageManager(taskBookWatcher, userPrefsStorage, config.getMaxSaveStalenessMillis());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        initTaskBookWatcher();
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Starts watching the task book files, applying changes made to them outside of the app to the model.
+     */
+    private void initTaskBookWatcher() {
+        try {
+            taskBookWatcher.startWatching((base, changed) -> {
+                storage.notifyTaskBookChangedExternally();
+                Platform.runLater(() -> {
+                    int changeCount = model.applyTaskBookChanges(base, changed);
+                    logger.info("Applied " + changeCount + " persons and tasks changed outside of the app");
+                });
+            });
+        } catch (IOException e) {
+            logger.warning("Unable to watch the task book for changes made outside of the app "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code TaskBookStorage} for the format chosen in {@code userPrefs}. <br>
+     * If there is no task book in that format yet, the first task book found in another format is converted into it.
+     * The json task book is gzip-compressed if {@code userPrefs} asks for it.
+     */
+    private TaskBookStorage initTaskBookStorage(UserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getTaskBookFilePath();
+        Path compressedFilePath = FileUtil.getCompressedPath(jsonFilePath);
+        boolean isCompressed = userPrefs.isTaskBookCompressed();
+        TaskBookStorage jsonStorage = new JournaledTaskBookStorage(isCompressed ? compressedFilePath : jsonFilePath);
+        TaskBookStorage otherJsonStorage =
+                new JournaledTaskBookStorage(isCompressed ? jsonFilePath : compressedFilePath);
+        TaskBookStorage binaryStorage = new BinaryTaskBookStorage(TaskBookConverter.getBinaryFilePath(jsonFilePath));
+        TaskBookStorage chosen;
+        List<TaskBookStorage> others;
+        switch (userPrefs.getTaskBookFormat()) {
+        case BINARY:
+            chosen = binaryStorage;
+            others = List.of(jsonStorage, otherJsonStorage);
+            break;
+        case SEGMENTED:
+            chosen = new SegmentedTaskBookStorage(TaskBookConverter.getSegmentsDirectoryPath(jsonFilePath));
+            others = List.of(jsonStorage, otherJsonStorage);
+            break;
+        case SQL:
+            chosen = new SqlTaskBookStorage(TaskBookConverter.getDatabaseFilePath(jsonFilePath));
+            others = List.of(jsonStorage, otherJsonStorage);
+            break;
+        default:
+            chosen = jsonStorage;
+            others = List.of(otherJsonStorage, binaryStorage);
+            break;
+        }
+
+        if (!Files.exists(chosen.getTaskBookFilePath())) {
+            try {
+                for (TaskBookStorage other : others) {
+                    if (!other.getTaskBookFilePath().equals(chosen.getTaskBookFilePath())
+                            && TaskBookConverter.convert(other, chosen)) {
+                        break;
+                    }
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert task book to " + userPrefs.getTaskBookFormat() + " format : "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return chosen;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s task book and {@code userPrefs}. <br>
      * The data from the sample task book will be used instead if {@code storage}'s task book is not found,
@@ -90,7 +178,55 @@ public class MainApp extends Application {
             initialData = new TaskBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        TaskArchive taskArchive =
+                new JsonTaskArchiveStorage(TaskBookConverter.getArchiveFilePath(userPrefs.getTaskBookFilePath()));
+        initialData = archiveOldTasks(initialData, taskArchive, userPrefs.getTaskArchiveAgeDays());
+        return new ModelManager(initialData, userPrefs, taskArchive, taskBookBackups);
+    }
+
+    /**
+     * Returns {@code taskBook} without the done tasks dated more than {@code ageDays} days ago, after saving the
+     * task book without them and moving them into {@code taskArchive}. Nothing is archived if {@code ageDays} is 0.
+     * The task book is saved first, so that tasks are never appended to the archive by one run and again by the
+     * next; if they cannot be appended, the task book is saved with them again.
+     */
+    private ReadOnlyTaskBook archiveOldTasks(ReadOnlyTaskBook taskBook, TaskArchive taskArchive, int ageDays) {
+        if (ageDays <= 0) {
+            return taskBook;
+        }
+
+        LocalDate cutoff = LocalDate.now().minusDays(ageDays);
+        TaskBook remaining = new TaskBook(taskBook);
+        List<Task> oldTasks = remaining.getTaskList().stream()
+                .filter(task -> task.isDoneBefore(cutoff))
+                .collect(Collectors.toList());
+        if (oldTasks.isEmpty()) {
+            return taskBook;
+        }
+
+        remaining.deleteTasks(oldTasks);
+        try {
+            storage.saveTaskBook(remaining);
+        } catch (IOException e) {
+            logger.warning("Problem while archiving old tasks. Will be keeping them in the TaskBook "
+                    + StringUtil.getDetails(e));
+            return taskBook;
+        }
+        try {
+            taskArchive.append(oldTasks);
+        } catch (IOException e) {
+            logger.warning("Problem while archiving old tasks. Will be keeping them in the TaskBook "
+                    + StringUtil.getDetails(e));
+            try {
+                storage.saveTaskBook(taskBook);
+            } catch (IOException saveException) {
+                logger.severe("Failed to save the old tasks back into the TaskBook "
+                        + StringUtil.getDetails(saveException));
+            }
+            return taskBook;
+        }
+        logger.info("Archived " + oldTasks.size() + " tasks done before " + cutoff);
+        return remaining;
     }
 
     private void initLogging(Config config) {
@@ -179,5 +315,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushTaskBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save task book " + StringUtil.getDetails(e));
+        }
+        logger.info(String.format("Task book saves written: %d, skipped as unchanged: %d",
+                storage.getPerformedTaskBookWriteCount(), storage.getSkippedTaskBookWriteCount())
+                + storage.getLastTaskBookWriteLatencyMillis()
+                        .map(latency -> String.format(", latest background write took %d ms", latency)).orElse(""));
+        try {
+            taskBookWatcher.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the task book " + StringUtil.getDetails(e));
+        }
     }
 }
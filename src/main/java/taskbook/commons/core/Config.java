@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveStalenessMillis = 500;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long, in milliseconds, changes to the task book may wait before being saved.
+     */
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +56,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && maxSaveStalenessMillis == o.maxSaveStalenessMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveStalenessMillis);
     }
 
     @Override
@@ -57,6 +70,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMax save staleness (ms) : " + maxSaveStalenessMillis);
         return sb.toString();
     }
 
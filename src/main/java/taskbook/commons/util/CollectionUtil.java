@@ -2,9 +2,17 @@ package taskbook.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +40,92 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Applies to {@code list} the changes that turn {@code base} into {@code changed}, matching elements by the
+     * identity returned by {@code identityOf}. Elements removed from {@code base} are removed from {@code list},
+     * elements changed in place are replaced where they are in {@code list}, and new elements are appended to
+     * {@code list}. Elements of {@code list} that were not changed are left untouched, so an observable
+     * {@code list} reports no more changes than needed.
+     * Identities must be unique within each of the lists.
+     *
+     * @return the number of elements of {@code list} removed, replaced or added.
+     */
+    public static <T> int applyChanges(List<T> list, List<T> base, List<T> changed,
+                                       Function<? super T, ?> identityOf) {
+        requireAllNonNull(list, base, changed, identityOf);
+
+        Map<Object, T> changedByIdentity = new LinkedHashMap<>();
+        for (T element : changed) {
+            changedByIdentity.put(identityOf.apply(element), element);
+        }
+        Map<Object, T> baseByIdentity = new HashMap<>();
+        for (T element : base) {
+            baseByIdentity.put(identityOf.apply(element), element);
+        }
+
+        List<T> removed = new ArrayList<>();
+        Set<Object> kept = new HashSet<>();
+        for (T element : list) {
+            Object identity = identityOf.apply(element);
+            if (baseByIdentity.containsKey(identity) && !changedByIdentity.containsKey(identity)) {
+                removed.add(element);
+            } else {
+                kept.add(identity);
+            }
+        }
+        list.removeAll(removed);
+        int changeCount = removed.size();
+
+        for (int i = 0; i < list.size(); i++) {
+            Object identity = identityOf.apply(list.get(i));
+            T replacement = changedByIdentity.get(identity);
+            if (replacement != null && !replacement.equals(baseByIdentity.get(identity))
+                    && !replacement.equals(list.get(i))) {
+                list.set(i, replacement);
+                changeCount++;
+            }
+        }
+
+        List<T> added = new ArrayList<>();
+        for (Map.Entry<Object, T> entry : changedByIdentity.entrySet()) {
+            if (!baseByIdentity.containsKey(entry.getKey()) && !kept.contains(entry.getKey())) {
+                added.add(entry.getValue());
+            }
+        }
+        list.addAll(added);
+        return changeCount + added.size();
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code replacement}, leaving untouched the elements at the start
+     * and at the end of {@code list} that are already equal to those of {@code replacement}.
+     * Only the range in between is replaced, so an observable {@code list} reports a change to that range alone.
+     *
+     * @return the number of elements of {@code list} removed or added.
+     */
+    public static <T> int setAllChanged(List<T> list, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+
+        int prefix = 0;
+        int maxCommon = Math.min(list.size(), replacement.size());
+        while (prefix < maxCommon && list.get(prefix).equals(replacement.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && list.get(list.size() - 1 - suffix).equals(replacement.get(replacement.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removedCount = list.size() - prefix - suffix;
+        List<? extends T> added = replacement.subList(prefix, replacement.size() - suffix);
+        if (removedCount > 0) {
+            list.subList(prefix, prefix + removedCount).clear();
+        }
+        if (!added.isEmpty()) {
+            list.addAll(prefix, new ArrayList<>(added));
+        }
+        return removedCount + added.size();
+    }
 }
@@ -1,10 +1,22 @@
 package taskbook.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +24,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String COMPRESSED_FILE_EXTENSION = ".gz";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to the given path.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Path file) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +97,118 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it atomically.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, temp -> Files.write(temp, bytes));
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to the disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes a file with {@code writer} so that the file is never left partially written.
+     * The content is written to a temporary file next to {@code file}, forced to the disk and then moved over
+     * {@code file} in one step. Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path temp = writeTemp(file, writer);
+        move(temp, file);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but keeps the file being replaced as the
+     * backup returned by {@link #getBackupPath(Path)}, so that the previous generation of the file can be
+     * read if the new one turns out to be unreadable.
+     */
+    public static void writeAtomicallyKeepingBackup(Path file, ContentWriter writer) throws IOException {
+        Path temp = writeTemp(file, writer);
+        if (Files.exists(file)) {
+            move(file, getBackupPath(file));
+        }
+        move(temp, file);
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #writeAtomicallyKeepingBackup(Path, ContentWriter)}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code file} is named as a gzip-compressed file.
+     */
+    public static boolean isCompressedPath(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the gzip-compressed counterpart of {@code file}, or {@code file} itself if it is
+     * already named as a gzip-compressed file.
+     */
+    public static Path getCompressedPath(Path file) {
+        return isCompressedPath(file) ? file : file.resolveSibling(file.getFileName() + COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Opens a buffered stream to read a file, which decompresses the file on the fly if it is gzip-compressed.
+     * Compression is recognised from the content of the file rather than its name, so that renamed files such as
+     * backups are read correctly.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_SIZE);
+        in.mark(2);
+        boolean isCompressed = in.read() == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && in.read() == (GZIPInputStream.GZIP_MAGIC >>> 8);
+        in.reset();
+        return isCompressed ? new GZIPInputStream(in, STREAM_BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Opens a buffered stream to write a file, replacing its content.
+     * Will create the file if it does not exist yet.
+     *
+     * @param isCompressed whether the content is gzip-compressed on the fly as it is written.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), STREAM_BUFFER_SIZE);
+        return isCompressed ? new GZIPOutputStream(out, STREAM_BUFFER_SIZE) : out;
+    }
+
+    private static Path writeTemp(Path file, ContentWriter writer) throws IOException {
+        if (Files.isDirectory(file)) {
+            // a move would silently replace the directory
+            throw new FileSystemException(file.toString(), null, "Is a directory");
+        }
+        createParentDirsOfFile(file);
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        writer.writeTo(temp);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        return temp;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -1,6 +1,7 @@
 package taskbook.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import taskbook.commons.core.GuiSettings;
@@ -25,6 +26,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler given the message to show the user whenever saving the task book in the background fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the TaskBook.
      *
@@ -2,6 +2,7 @@ package taskbook.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -48,10 +49,16 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = taskBookParser.parseCommand(commandText);
+        long modificationCount = model.getTaskBookModificationCount();
         commandResult = command.execute(model);
 
+        // Read-only commands leave the task book untouched, so there is nothing to persist.
+        if (model.getTaskBookModificationCount() == modificationCount) {
+            return commandResult;
+        }
+
         try {
-            storage.saveTaskBook(model.getTaskBook());
+            storage.scheduleSaveTaskBook(model.getTaskBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -59,6 +66,11 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setBackgroundSaveFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public ReadOnlyTaskBook getTaskBook() {
         return model.getTaskBook();
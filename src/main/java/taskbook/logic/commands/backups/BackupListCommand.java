@@ -0,0 +1,64 @@
+package taskbook.logic.commands.backups;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.logic.parser.backups.BackupCategoryParser;
+import taskbook.model.Model;
+
+/**
+ * Lists the backups of the task book, newest first.
+ */
+public class BackupListCommand extends Command {
+
+    public static final String COMMAND_WORD = "list";
+
+    public static final String MESSAGE_USAGE =
+            BackupCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
+            + ": Lists the backups of the TaskBook, newest first.\n"
+            + "Backups are taken as the TaskBook is saved, at most once an hour.\n"
+            + "\n"
+            + "Example: " + BackupCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d backups found.\n%2$s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet.";
+    public static final String MESSAGE_READ_FAILED = "Could not read the backups: %1$s";
+
+    /** The format backups are shown in, in the time zone of the system. */
+    public static final DateTimeFormatter GENERATION_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Instant> generations;
+        try {
+            generations = model.getBackupGenerations();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, ioe.getMessage()), ioe);
+        }
+        if (generations.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_BACKUPS);
+        }
+
+        StringBuilder list = new StringBuilder();
+        for (int i = 0; i < generations.size(); i++) {
+            list.append(i + 1).append(". ").append(GENERATION_FORMATTER.format(generations.get(i))).append('\n');
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, generations.size(), list.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof BackupListCommand;
+    }
+}
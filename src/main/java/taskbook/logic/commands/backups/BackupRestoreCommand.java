@@ -0,0 +1,81 @@
+package taskbook.logic.commands.backups;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import taskbook.commons.core.Messages;
+import taskbook.commons.core.index.Index;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.backups.BackupCategoryParser;
+import taskbook.model.Model;
+import taskbook.model.ReadOnlyTaskBook;
+
+/**
+ * Replaces the task book with a backup identified by its index in {@link BackupListCommand}.
+ * The restore is a single change, which can be undone in one step.
+ */
+public class BackupRestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE =
+            BackupCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
+            + ": Replaces the TaskBook with the backup identified by the index number in "
+            + BackupCategoryParser.CATEGORY_WORD + " " + BackupListCommand.COMMAND_WORD + ".\n"
+            + "\n"
+            + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer)\n"
+            + "Example: " + BackupCategoryParser.CATEGORY_WORD + " "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1";
+
+    public static final String MESSAGE_SUCCESS = "Restored the backup taken at %1$s.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not restore the backup: %1$s";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a BackupRestoreCommand to restore the backup with the specified {@code Index index}.
+     */
+    public BackupRestoreCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Instant generation;
+        ReadOnlyTaskBook backup;
+        try {
+            List<Instant> generations = model.getBackupGenerations();
+            if (targetIndex.getZeroBased() >= generations.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_BACKUP_INDEX);
+            }
+            generation = generations.get(targetIndex.getZeroBased());
+            backup = model.readBackupGeneration(generation);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, ioe.getMessage()), ioe);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, dce.getCause().getMessage()), dce);
+        }
+
+        model.setTaskBook(backup);
+        model.commitTaskBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                BackupListCommand.GENERATION_FORMATTER.format(generation)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof BackupRestoreCommand
+                && targetIndex.equals(((BackupRestoreCommand) other).targetIndex));
+    }
+}
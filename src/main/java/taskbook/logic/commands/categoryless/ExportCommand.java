@@ -0,0 +1,59 @@
+package taskbook.logic.commands.categoryless;
+
+import static java.util.Objects.requireNonNull;
+import static taskbook.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.model.Model;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.storage.JsonLinesTaskBookFile;
+
+/**
+ * Writes every contact and task in the task book to a file, one record per line.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Writes all contacts and tasks to FILE as json, one contact or task per line.\n"
+        + "The file can be read into another TaskBook with " + ImportCommand.COMMAND_WORD + ".\n"
+        + "Parameters: " + PREFIX_FILE + "FILE\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/export.jsonl";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d contacts and %2$d tasks to %3$s.";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the task book to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyTaskBook taskBook = model.getTaskBook();
+        try {
+            JsonLinesTaskBookFile.write(taskBook, filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, taskBook.getPersonList().size(),
+                taskBook.getTaskList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExportCommand
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
@@ -7,12 +7,17 @@ import java.util.stream.Collectors;
 
 import taskbook.logic.commands.Command;
 import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.backups.BackupListCommand;
+import taskbook.logic.commands.backups.BackupRestoreCommand;
 import taskbook.logic.commands.contacts.ContactAddCommand;
 import taskbook.logic.commands.contacts.ContactDeleteCommand;
 import taskbook.logic.commands.contacts.ContactEditCommand;
 import taskbook.logic.commands.contacts.ContactFindCommand;
+import taskbook.logic.commands.contacts.ContactImportCommand;
 import taskbook.logic.commands.contacts.ContactListCommand;
 import taskbook.logic.commands.contacts.ContactSortCommand;
+import taskbook.logic.commands.tasks.TaskArchiveCommand;
+import taskbook.logic.commands.tasks.TaskArchivedCommand;
 import taskbook.logic.commands.tasks.TaskDeadlineCommand;
 import taskbook.logic.commands.tasks.TaskDeleteCommand;
 import taskbook.logic.commands.tasks.TaskEditCommand;
@@ -23,6 +28,7 @@ import taskbook.logic.commands.tasks.TaskMarkCommand;
 import taskbook.logic.commands.tasks.TaskSortCommand;
 import taskbook.logic.commands.tasks.TaskTodoCommand;
 import taskbook.logic.commands.tasks.TaskUnmarkCommand;
+import taskbook.logic.parser.backups.BackupCategoryParser;
 import taskbook.logic.parser.contacts.ContactCategoryParser;
 import taskbook.logic.parser.tasks.TaskCategoryParser;
 import taskbook.model.Model;
@@ -98,10 +104,24 @@ public class HelpCommand extends Command {
             return ContactSortCommand.MESSAGE_USAGE;
         case TASK_SORT:
             return TaskSortCommand.MESSAGE_USAGE;
+        case CONTACT_IMPORT:
+            return ContactImportCommand.MESSAGE_USAGE;
         case TASK_MARK:
             return TaskMarkCommand.MESSAGE_USAGE;
         case TASK_UNMARK:
             return TaskUnmarkCommand.MESSAGE_USAGE;
+        case TASK_ARCHIVE:
+            return TaskArchiveCommand.MESSAGE_USAGE;
+        case TASK_ARCHIVED:
+            return TaskArchivedCommand.MESSAGE_USAGE;
+        case BACKUP_LIST:
+            return BackupListCommand.MESSAGE_USAGE;
+        case BACKUP_RESTORE:
+            return BackupRestoreCommand.MESSAGE_USAGE;
+        case EXPORT:
+            return ExportCommand.MESSAGE_USAGE;
+        case IMPORT:
+            return ImportCommand.MESSAGE_USAGE;
         case UNDO:
             return UndoCommand.MESSAGE_USAGE;
         case REDO:
@@ -147,8 +167,15 @@ public class HelpCommand extends Command {
         TASK_FIND(TaskCategoryParser.CATEGORY_WORD, TaskFindCommand.COMMAND_WORD),
         CONTACT_SORT(ContactCategoryParser.CATEGORY_WORD, ContactSortCommand.COMMAND_WORD),
         TASK_SORT(TaskCategoryParser.CATEGORY_WORD, TaskSortCommand.COMMAND_WORD),
+        CONTACT_IMPORT(ContactCategoryParser.CATEGORY_WORD, ContactImportCommand.COMMAND_WORD),
         TASK_MARK(TaskCategoryParser.CATEGORY_WORD, TaskMarkCommand.COMMAND_WORD),
         TASK_UNMARK(TaskCategoryParser.CATEGORY_WORD, TaskUnmarkCommand.COMMAND_WORD),
+        TASK_ARCHIVE(TaskCategoryParser.CATEGORY_WORD, TaskArchiveCommand.COMMAND_WORD),
+        TASK_ARCHIVED(TaskCategoryParser.CATEGORY_WORD, TaskArchivedCommand.COMMAND_WORD),
+        BACKUP_LIST(BackupCategoryParser.CATEGORY_WORD, BackupListCommand.COMMAND_WORD),
+        BACKUP_RESTORE(BackupCategoryParser.CATEGORY_WORD, BackupRestoreCommand.COMMAND_WORD),
+        EXPORT(ExportCommand.COMMAND_WORD),
+        IMPORT(ImportCommand.COMMAND_WORD),
         UNDO(UndoCommand.COMMAND_WORD),
         REDO(RedoCommand.COMMAND_WORD),
         EXIT(ExitCommand.COMMAND_WORD);
@@ -0,0 +1,118 @@
+package taskbook.logic.commands.categoryless;
+
+import static java.util.Objects.requireNonNull;
+import static taskbook.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.model.Model;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+import taskbook.storage.JsonLinesTaskBookFile;
+
+/**
+ * Adds the contacts and tasks in a file written by {@link ExportCommand} to the task book.
+ * Everything is added as a single change, which can be undone in one step.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Adds the contacts and tasks in FILE, written by " + ExportCommand.COMMAND_WORD + ", to the TaskBook.\n"
+        + "Contacts and tasks that are already in the TaskBook are skipped, "
+        + "as are tasks assigned to contacts that are in neither.\n"
+        + "Parameters: " + PREFIX_FILE + "FILE\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/export.jsonl";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts and %2$d tasks from %3$s.";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d duplicates and %2$d tasks of unknown contacts.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s.";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the records in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        JsonLinesTaskBookFile.Records records = readRecords();
+
+        // Hash join of the records against the task book: contacts by name and tasks by identity.
+        Set<Name> names = new HashSet<>();
+        for (Person person : model.getTaskBook().getPersonList()) {
+            names.add(person.getName());
+        }
+        Set<List<Object>> taskIdentities = new HashSet<>();
+        for (Task task : model.getTaskBook().getTaskList()) {
+            taskIdentities.add(task.getIdentity());
+        }
+
+        int duplicateCount = 0;
+        List<Person> persons = new ArrayList<>();
+        for (Person person : records.getPersons()) {
+            if (names.add(person.getName())) {
+                persons.add(person);
+            } else {
+                duplicateCount++;
+            }
+        }
+        int unknownContactCount = 0;
+        List<Task> tasks = new ArrayList<>();
+        for (Task task : records.getTasks()) {
+            if (!task.getName().equals(Name.SELF) && !names.contains(task.getName())) {
+                unknownContactCount++;
+            } else if (taskIdentities.add(task.getIdentity())) {
+                tasks.add(task);
+            } else {
+                duplicateCount++;
+            }
+        }
+
+        if (!persons.isEmpty() || !tasks.isEmpty()) {
+            model.addAll(persons, tasks);
+            model.commitTaskBook();
+        }
+        String message = String.format(MESSAGE_SUCCESS, persons.size(), tasks.size(), filePath);
+        if (duplicateCount > 0 || unknownContactCount > 0) {
+            message += String.format(MESSAGE_SKIPPED, duplicateCount, unknownContactCount);
+        }
+        return new CommandResult(message);
+    }
+
+    private JsonLinesTaskBookFile.Records readRecords() throws CommandException {
+        try {
+            return JsonLinesTaskBookFile.read(filePath);
+        } catch (NoSuchFileException nsfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), nsfe);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, dce.getCause().getMessage()),
+                    dce);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ImportCommand
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
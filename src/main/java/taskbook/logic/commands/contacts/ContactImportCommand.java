@@ -0,0 +1,106 @@
+package taskbook.logic.commands.contacts;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.contacts.ContactCategoryParser;
+import taskbook.logic.parser.contacts.ContactFileParser;
+import taskbook.logic.parser.exceptions.ParseException;
+import taskbook.model.Model;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+
+/**
+ * Adds the contacts in a CSV or vCard file to the task book.
+ * Every valid contact is added as a single change, and the rows that could not be added are reported.
+ */
+public class ContactImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE =
+            ContactCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
+            + ": Adds the contacts in a CSV or vCard (.vcf) file to the task book.\n"
+            + "The first row of a CSV file names its columns: name, and optionally phone, email, address and tags.\n"
+            + "\n"
+            + "Parameters: " + CliSyntax.PREFIX_FILE + "FILE\n"
+            + "Example: " + ContactCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_FILE + "team.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts from %2$s.";
+    public static final String MESSAGE_REJECTED = "\n%1$d rows were not imported:";
+    public static final String MESSAGE_MORE_REJECTED = "\n... and %1$d more";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s.";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+
+    /** The number of rejected rows listed in the result, so that a bad file does not flood the result display. */
+    public static final int MAX_REPORTED_ROWS = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates a ContactImportCommand to add the contacts in {@code filePath}.
+     */
+    public ContactImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Name> names = new HashSet<>();
+        for (Person person : model.getTaskBook().getPersonList()) {
+            names.add(person.getName());
+        }
+        ContactFileParser.Result result = readFile(names);
+
+        List<Person> toAdd = result.getPersons();
+
+        if (!toAdd.isEmpty()) {
+            model.addAll(toAdd, List.of());
+            model.commitTaskBook();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath)
+                + report(result.getRejectedRows()));
+    }
+
+    private ContactFileParser.Result readFile(Set<Name> takenNames) throws CommandException {
+        try {
+            return ContactFileParser.parse(filePath, takenNames);
+        } catch (NoSuchFileException nsfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), nsfe);
+        } catch (IOException | ParseException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static String report(List<String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return "";
+        }
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_REJECTED, rejectedRows.size()));
+        rejectedRows.stream().limit(MAX_REPORTED_ROWS).forEach(row -> report.append("\n").append(row));
+        if (rejectedRows.size() > MAX_REPORTED_ROWS) {
+            report.append(String.format(MESSAGE_MORE_REJECTED, rejectedRows.size() - MAX_REPORTED_ROWS));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ContactImportCommand
+                && filePath.equals(((ContactImportCommand) other).filePath));
+    }
+}
@@ -0,0 +1,71 @@
+package taskbook.logic.commands.tasks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.tasks.TaskCategoryParser;
+import taskbook.model.Model;
+import taskbook.model.task.Task;
+
+/**
+ * Moves done tasks dated before a given date out of the task book into the task archive.
+ */
+public class TaskArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE =
+            TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
+            + ": Moves done deadlines and events dated before DATE into the archive.\n"
+            + "Archived tasks no longer appear in the task list, but can still be searched with "
+            + TaskCategoryParser.CATEGORY_WORD + " " + TaskArchivedCommand.COMMAND_WORD + ".\n"
+            + "\n"
+            + "Parameters: [" + CliSyntax.PREFIX_DATE + "DATE] (today if not given)\n"
+            + "Example: " + TaskCategoryParser.CATEGORY_WORD + " "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_DATE + "2022-01-01";
+
+    public static final String MESSAGE_SUCCESS = "%1$d tasks archived.";
+    public static final String MESSAGE_ARCHIVE_FAILED = "Could not archive tasks: %1$s";
+
+    private final LocalDate date;
+
+    /**
+     * Creates a TaskArchiveCommand to archive done tasks dated before {@code date},
+     * or before the day the command is executed if {@code date} is null.
+     */
+    public TaskArchiveCommand(LocalDate date) {
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LocalDate cutoff = date == null ? LocalDate.now() : date;
+
+        List<Task> archived;
+        try {
+            archived = model.archiveTasks(task -> task.isDoneBefore(cutoff));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_FAILED, ioe.getMessage()), ioe);
+        }
+        if (!archived.isEmpty()) {
+            model.commitTaskBook();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archived.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TaskArchiveCommand
+                && Objects.equals(date, ((TaskArchiveCommand) other).date));
+    }
+}
@@ -0,0 +1,85 @@
+package taskbook.logic.commands.tasks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.CommandResult;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.tasks.TaskCategoryParser;
+import taskbook.model.Model;
+import taskbook.model.task.Task;
+
+/**
+ * Searches the task archive for tasks matching a query in name or description.
+ * The archive is read as the command runs, and only the first matches are kept.
+ */
+public class TaskArchivedCommand extends Command {
+
+    public static final String COMMAND_WORD = "archived";
+
+    /** The most archived tasks shown by one search. */
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE =
+            TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
+            + ": Shows archived tasks whose name or description contains QUERY, or all archived tasks.\n"
+            + "At most " + MAX_RESULTS + " tasks are shown, in the order they were archived.\n"
+            + "\n"
+            + "Parameters: [" + CliSyntax.PREFIX_QUERY + "QUERY]\n"
+            + "Example: " + TaskCategoryParser.CATEGORY_WORD + " "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_QUERY + "report";
+
+    public static final String MESSAGE_SUCCESS = "%1$d archived tasks found.\n%2$s";
+    public static final String MESSAGE_MORE_RESULTS = "\nOnly the first " + MAX_RESULTS + " are shown.";
+    public static final String MESSAGE_READ_FAILED = "Could not read the archive: %1$s";
+
+    private final String query;
+
+    /**
+     * Creates a TaskArchivedCommand to search for archived tasks containing {@code query},
+     * or for all archived tasks if {@code query} is null.
+     */
+    public TaskArchivedCommand(String query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Task> found;
+        try (Stream<Task> archived = model.streamArchivedTasks()) {
+            // tasks brought back by undo are in the task book again, so they are not shown as archived
+            found = archived.filter(task -> query == null || task.isQueryInTask(query))
+                    .filter(task -> !model.hasTask(task))
+                    .limit(MAX_RESULTS + 1)
+                    .collect(Collectors.toList());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, ioe.getMessage()), ioe);
+        } catch (UncheckedIOException uioe) {
+            // the archive is read lazily, so errors while reading it come from the stream
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, uioe.getCause().getMessage()), uioe);
+        }
+
+        boolean hasMore = found.size() > MAX_RESULTS;
+        List<Task> shown = hasMore ? found.subList(0, MAX_RESULTS) : found;
+        String tasks = shown.stream().map(Task::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, shown.size(), tasks)
+                + (hasMore ? MESSAGE_MORE_RESULTS : ""));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TaskArchivedCommand
+                && Objects.equals(query, ((TaskArchivedCommand) other).query));
+    }
+}
@@ -21,4 +21,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUERY = new Prefix("q/");
     public static final Prefix PREFIX_ASSIGNMENT = new Prefix("a/");
     public static final Prefix PREFIX_DONE = new Prefix("x/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
 }
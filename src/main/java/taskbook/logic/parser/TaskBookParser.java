@@ -6,6 +6,7 @@ import java.util.regex.Pattern;
 import taskbook.commons.core.Messages;
 import taskbook.logic.commands.Command;
 import taskbook.logic.commands.categoryless.HelpCommand;
+import taskbook.logic.parser.backups.BackupCategoryParser;
 import taskbook.logic.parser.categoryless.CategorylessParser;
 import taskbook.logic.parser.contacts.ContactCategoryParser;
 import taskbook.logic.parser.exceptions.ParseException;
@@ -24,7 +25,8 @@ public class TaskBookParser {
         ContactCategoryParser.CATEGORY_WORD,
         ContactCategoryParser.CATEGORY_WORD_SHORTCUT,
         TaskCategoryParser.CATEGORY_WORD,
-        TaskCategoryParser.CATEGORY_WORD_SHORTCUT
+        TaskCategoryParser.CATEGORY_WORD_SHORTCUT,
+        BackupCategoryParser.CATEGORY_WORD
     );
     private static final String BASIC_COMMAND_REGEX =
         String.format("(?:(?<category>%s)\\s)?(?<commandWord>\\S+)(?<arguments>.*)", CATEGORIES);
@@ -59,6 +61,8 @@ public class TaskBookParser {
         } else if (category.equals(TaskCategoryParser.CATEGORY_WORD)
                 || category.equals(TaskCategoryParser.CATEGORY_WORD_SHORTCUT)) {
             return TaskCategoryParser.parseCommand(commandWord, arguments);
+        } else if (category.equals(BackupCategoryParser.CATEGORY_WORD)) {
+            return BackupCategoryParser.parseCommand(commandWord, arguments);
         }
 
         throw new ParseException(Messages.MESSAGE_UNKNOWN_CATEGORY);
@@ -0,0 +1,33 @@
+package taskbook.logic.parser.backups;
+
+import taskbook.commons.core.Messages;
+import taskbook.logic.commands.Command;
+import taskbook.logic.commands.backups.BackupListCommand;
+import taskbook.logic.commands.backups.BackupRestoreCommand;
+import taskbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input of backup category.
+ */
+public class BackupCategoryParser {
+    public static final String CATEGORY_WORD = "backup";
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param commandWord Command word provided by the user.
+     * @param arguments   Arguments provided by the user.
+     * @return The command based on the user command word and arguments.
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    public static Command parseCommand(String commandWord, String arguments) throws ParseException {
+        switch (commandWord) {
+        case BackupListCommand.COMMAND_WORD:
+            return new BackupListCommand();
+        case BackupRestoreCommand.COMMAND_WORD:
+            return new BackupRestoreCommandParser().parse(arguments);
+        default:
+            throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
+        }
+    }
+}
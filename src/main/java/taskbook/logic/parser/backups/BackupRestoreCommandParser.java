@@ -0,0 +1,36 @@
+package taskbook.logic.parser.backups;
+
+import taskbook.commons.core.Messages;
+import taskbook.commons.core.index.Index;
+import taskbook.logic.commands.backups.BackupRestoreCommand;
+import taskbook.logic.parser.ArgumentMultimap;
+import taskbook.logic.parser.ArgumentTokenizer;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.Parser;
+import taskbook.logic.parser.ParserUtil;
+import taskbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BackupRestoreCommand object.
+ */
+public class BackupRestoreCommandParser implements Parser<BackupRestoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BackupRestoreCommand
+     * and returns a BackupRestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public BackupRestoreCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_INDEX);
+
+        if (argMultimap.getValue(CliSyntax.PREFIX_INDEX).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(
+                    Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    BackupRestoreCommand.MESSAGE_USAGE));
+        }
+
+        Index index = ParserUtil.parseIndex(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
+        return new BackupRestoreCommand(index);
+    }
+}
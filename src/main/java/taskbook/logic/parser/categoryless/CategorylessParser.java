@@ -3,7 +3,9 @@ package taskbook.logic.parser.categoryless;
 import taskbook.commons.core.Messages;
 import taskbook.logic.commands.Command;
 import taskbook.logic.commands.categoryless.ExitCommand;
+import taskbook.logic.commands.categoryless.ExportCommand;
 import taskbook.logic.commands.categoryless.HelpCommand;
+import taskbook.logic.commands.categoryless.ImportCommand;
 import taskbook.logic.commands.categoryless.RedoCommand;
 import taskbook.logic.commands.categoryless.UndoCommand;
 import taskbook.logic.parser.exceptions.ParseException;
@@ -28,6 +30,10 @@ public class CategorylessParser {
             return new RedoCommand();
         case HelpCommand.COMMAND_WORD:
             return new HelpCommandParser().parse(arguments);
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
         default:
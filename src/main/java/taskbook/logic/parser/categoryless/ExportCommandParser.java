@@ -0,0 +1,32 @@
+package taskbook.logic.parser.categoryless;
+
+import static taskbook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static taskbook.logic.parser.CliSyntax.PREFIX_FILE;
+
+import taskbook.logic.commands.categoryless.ExportCommand;
+import taskbook.logic.parser.ArgumentMultimap;
+import taskbook.logic.parser.ArgumentTokenizer;
+import taskbook.logic.parser.Parser;
+import taskbook.logic.parser.ParserUtil;
+import taskbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns a ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_FILE).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        return new ExportCommand(ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get()));
+    }
+}
@@ -6,6 +6,7 @@ import taskbook.logic.commands.contacts.ContactAddCommand;
 import taskbook.logic.commands.contacts.ContactDeleteCommand;
 import taskbook.logic.commands.contacts.ContactEditCommand;
 import taskbook.logic.commands.contacts.ContactFindCommand;
+import taskbook.logic.commands.contacts.ContactImportCommand;
 import taskbook.logic.commands.contacts.ContactListCommand;
 import taskbook.logic.commands.contacts.ContactSortCommand;
 import taskbook.logic.parser.exceptions.ParseException;
@@ -39,6 +40,8 @@ public class ContactCategoryParser {
             return new ContactFindCommandParser().parse(arguments);
         case ContactSortCommand.COMMAND_WORD:
             return new ContactSortCommandParser().parse(arguments);
+        case ContactImportCommand.COMMAND_WORD:
+            return new ContactImportCommandParser().parse(arguments);
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
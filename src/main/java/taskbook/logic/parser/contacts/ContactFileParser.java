@@ -0,0 +1,289 @@
+package taskbook.logic.parser.contacts;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import taskbook.logic.parser.ParserUtil;
+import taskbook.logic.parser.exceptions.ParseException;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+
+/**
+ * Reads contacts from a CSV or vCard file one row at a time, validating each row the same way as
+ * {@code contact add} does. Rows that are not valid contacts, or whose name is taken, are reported instead of
+ * stopping the whole file.
+ *
+ * A CSV file must start with a header row naming its columns, of which {@code name} is required and
+ * {@code phone}, {@code email}, {@code address} and {@code tags} are optional. Each card of a vCard file,
+ * which is recognised by its {@code .vcf} or {@code .vcard} extension, counts as one row.
+ */
+public class ContactFileParser {
+
+    public static final String MESSAGE_REJECTED_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_MISSING_NAME = "Name is missing.";
+    public static final String MESSAGE_DUPLICATE_NAME = "%1$s is already a contact.";
+    public static final String MESSAGE_MISSING_HEADER =
+            "The first row of a CSV file must name its columns, including a name column.";
+
+    private static final String COLUMN_NAME = "name";
+    private static final String COLUMN_PHONE = "phone";
+    private static final String COLUMN_EMAIL = "email";
+    private static final String COLUMN_ADDRESS = "address";
+    private static final String COLUMN_TAGS = "tags";
+    /** The field holding the name a vCard gives in parts, which is only used if it has no formatted name. */
+    private static final String FIELD_STRUCTURED_NAME = "structured name";
+
+    private static final String TAG_SEPARATOR_REGEX = "[,;\\s]+";
+    private static final String PHONE_FORMATTING_REGEX = "[\\s-]";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * The contacts read from a file and the rows that were rejected.
+     */
+    public static class Result {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> rejectedRows = new ArrayList<>();
+        private final Set<Name> takenNames;
+
+        private Result(Set<Name> takenNames) {
+            this.takenNames = takenNames;
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns a message for each rejected row, naming the row and the reason it was rejected.
+         */
+        public List<String> getRejectedRows() {
+            return rejectedRows;
+        }
+
+        private void add(int rowNumber, Map<String, String> fields) {
+            try {
+                Person person = toPerson(fields);
+                if (!takenNames.add(person.getName())) {
+                    throw new ParseException(String.format(MESSAGE_DUPLICATE_NAME, person.getName()));
+                }
+                persons.add(person);
+            } catch (ParseException pe) {
+                rejectedRows.add(String.format(MESSAGE_REJECTED_ROW, rowNumber, pe.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Reads the contacts in the CSV or vCard file at {@code filePath}, rejecting those named in {@code takenNames}.
+     * The names of the contacts read are added to {@code takenNames}, so that each name is read only once.
+     *
+     * @throws ParseException if the file is a CSV file without a header row naming a name column.
+     */
+    public static Result parse(Path filePath, Set<Name> takenNames) throws IOException, ParseException {
+        requireNonNull(filePath);
+        requireNonNull(takenNames);
+
+        String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            if (fileName.endsWith(".vcf") || fileName.endsWith(".vcard")) {
+                return parseVcards(reader, new Result(takenNames));
+            }
+            return parseCsv(reader, new Result(takenNames));
+        }
+    }
+
+    private static Result parseCsv(BufferedReader reader, Result result) throws IOException, ParseException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            throw new ParseException(MESSAGE_MISSING_HEADER);
+        }
+        List<String> columns = header.stream()
+                .map(column -> column.replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        if (!columns.contains(COLUMN_NAME)) {
+            throw new ParseException(MESSAGE_MISSING_HEADER);
+        }
+
+        int rowNumber = 1;
+        for (List<String> record = readCsvRecord(reader); record != null; record = readCsvRecord(reader)) {
+            rowNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < Math.min(columns.size(), record.size()); i++) {
+                fields.putIfAbsent(columns.get(i), record.get(i));
+            }
+            result.add(rowNumber, fields);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields of the next CSV record, or null at the end of the file.
+     * Fields may be quoted, in which case they can hold commas, line breaks and doubled quotes.
+     */
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // a quoted field goes on to the next line
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (isQuoted && c == '"' && i < line.length() && line.charAt(i) == '"') {
+                field.append('"');
+                i++;
+            } else if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (c == ',' && !isQuoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Result parseVcards(BufferedReader reader, Result result) throws IOException {
+        int cardNumber = 0;
+        Map<String, String> fields = null;
+        String next = reader.readLine();
+        while (next != null) {
+            // lines starting with a space or tab continue the line before them
+            StringBuilder unfolded = new StringBuilder(next);
+            for (next = reader.readLine(); next != null && (next.startsWith(" ") || next.startsWith("\t"));
+                    next = reader.readLine()) {
+                unfolded.append(next, 1, next.length());
+            }
+            String line = unfolded.toString();
+
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String property = line.substring(0, colon).split(";", 2)[0];
+            property = property.substring(property.indexOf('.') + 1).toUpperCase(Locale.ROOT);
+            String value = line.substring(colon + 1);
+
+            if (property.equals("BEGIN")) {
+                cardNumber++;
+                fields = new HashMap<>();
+            } else if (property.equals("END") && fields != null) {
+                result.add(cardNumber, fields);
+                fields = null;
+            } else if (fields != null) {
+                putVcardProperty(fields, property, value);
+            }
+        }
+        return result;
+    }
+
+    private static void putVcardProperty(Map<String, String> fields, String property, String value) {
+        switch (property) {
+        case "FN":
+            fields.put(COLUMN_NAME, unescapeVcard(value));
+            break;
+        case "N":
+            // family name, given name, ... read as "given family"
+            List<String> parts = splitVcard(value, ';');
+            String name = (parts.size() > 1 ? parts.get(1) + " " : "") + parts.get(0);
+            fields.putIfAbsent(FIELD_STRUCTURED_NAME, name.trim());
+            break;
+        case "TEL":
+            fields.putIfAbsent(COLUMN_PHONE, unescapeVcard(value));
+            break;
+        case "EMAIL":
+            fields.putIfAbsent(COLUMN_EMAIL, unescapeVcard(value));
+            break;
+        case "ADR":
+            fields.putIfAbsent(COLUMN_ADDRESS, splitVcard(value, ';').stream()
+                    .filter(part -> !part.isBlank())
+                    .collect(Collectors.joining(", ")));
+            break;
+        case "CATEGORIES":
+            fields.merge(COLUMN_TAGS, String.join(";", splitVcard(value, ',')), (old, added) -> old + ";" + added);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Splits a vCard value at the separators that are not escaped, and unescapes the parts.
+     */
+    private static List<String> splitVcard(String value, char separator) {
+        return Arrays.stream(value.split("(?<!\\\\)" + separator, -1))
+                .map(ContactFileParser::unescapeVcard)
+                .collect(Collectors.toList());
+    }
+
+    private static String unescapeVcard(String value) {
+        return value.replaceAll("\\\\[nN]", " ").replaceAll("\\\\(.)", "$1").trim();
+    }
+
+    /**
+     * Returns the contact described by {@code fields}, keyed by lower case column name.
+     *
+     * @throws ParseException if any field does not meet the constraints of {@code contact add}.
+     */
+    private static Person toPerson(Map<String, String> fields) throws ParseException {
+        String nameField = fields.getOrDefault(COLUMN_NAME, fields.get(FIELD_STRUCTURED_NAME));
+        if (nameField == null || nameField.isBlank()) {
+            throw new ParseException(MESSAGE_MISSING_NAME);
+        }
+        Name name = ParserUtil.parseName(nameField);
+        String phoneField = fields.get(COLUMN_PHONE);
+        Phone phone = ParserUtil.parsePhone(phoneField == null || phoneField.isBlank()
+                ? Phone.NO_PHONE_PROVIDED
+                : phoneField.replaceAll(PHONE_FORMATTING_REGEX, ""));
+        Email email = ParserUtil.parseEmail(valueOrDefault(fields.get(COLUMN_EMAIL), Email.NO_EMAIL_PROVIDED));
+        Address address = ParserUtil.parseAddress(
+                valueOrDefault(fields.get(COLUMN_ADDRESS), Address.NO_ADDRESS_PROVIDED));
+        Set<Tag> tags = ParserUtil.parseTags(Arrays.stream(fields.getOrDefault(COLUMN_TAGS, "")
+                .split(TAG_SEPARATOR_REGEX))
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList()));
+        return new Person(name, phone, email, address, tags);
+    }
+
+    private static String valueOrDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,39 @@
+package taskbook.logic.parser.tasks;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import taskbook.commons.core.Messages;
+import taskbook.logic.commands.tasks.TaskArchiveCommand;
+import taskbook.logic.parser.ArgumentMultimap;
+import taskbook.logic.parser.ArgumentTokenizer;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.Parser;
+import taskbook.logic.parser.ParserUtil;
+import taskbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TaskArchiveCommand object.
+ */
+public class TaskArchiveCommandParser implements Parser<TaskArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TaskArchiveCommand
+     * and returns a TaskArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public TaskArchiveCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_DATE);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(
+                    Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    TaskArchiveCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> date = argMultimap.getValue(CliSyntax.PREFIX_DATE);
+        LocalDate cutoff = date.isPresent() ? ParserUtil.parseDate(date.get()) : null;
+        return new TaskArchiveCommand(cutoff);
+    }
+}
@@ -0,0 +1,34 @@
+package taskbook.logic.parser.tasks;
+
+import taskbook.commons.core.Messages;
+import taskbook.logic.commands.tasks.TaskArchivedCommand;
+import taskbook.logic.parser.ArgumentMultimap;
+import taskbook.logic.parser.ArgumentTokenizer;
+import taskbook.logic.parser.CliSyntax;
+import taskbook.logic.parser.Parser;
+import taskbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TaskArchivedCommand object.
+ */
+public class TaskArchivedCommandParser implements Parser<TaskArchivedCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TaskArchivedCommand
+     * and returns a TaskArchivedCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public TaskArchivedCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_QUERY);
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(CliSyntax.PREFIX_QUERY).map(String::isBlank).orElse(false)) {
+            throw new ParseException(String.format(
+                    Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    TaskArchivedCommand.MESSAGE_USAGE));
+        }
+
+        return new TaskArchivedCommand(argMultimap.getValue(CliSyntax.PREFIX_QUERY).map(String::trim).orElse(null));
+    }
+}
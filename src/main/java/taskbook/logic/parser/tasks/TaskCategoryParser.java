@@ -2,6 +2,8 @@ package taskbook.logic.parser.tasks;
 
 import taskbook.commons.core.Messages;
 import taskbook.logic.commands.Command;
+import taskbook.logic.commands.tasks.TaskArchiveCommand;
+import taskbook.logic.commands.tasks.TaskArchivedCommand;
 import taskbook.logic.commands.tasks.TaskDeadlineCommand;
 import taskbook.logic.commands.tasks.TaskDeleteCommand;
 import taskbook.logic.commands.tasks.TaskEditCommand;
@@ -51,6 +53,10 @@ public class TaskCategoryParser {
             return new TaskSortCommandParser().parse(arguments);
         case TaskFindCommand.COMMAND_WORD:
             return new TaskFindCommandParser().parse(arguments);
+        case TaskArchiveCommand.COMMAND_WORD:
+            return new TaskArchiveCommandParser().parse(arguments);
+        case TaskArchivedCommand.COMMAND_WORD:
+            return new TaskArchivedCommandParser().parse(arguments);
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,141 @@
+package taskbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An unmodifiable snapshot of a list, held as chunks of consecutive elements that are shared with the snapshot
+ * taken before it wherever the elements are the very same objects.
+ *
+ * A chunk ends after each element whose identity hash ends in {@link #CHUNK_BOUNDARY_BITS} zero bits, so that
+ * adding, removing or replacing an element only changes the chunk holding it, even if the elements after it move.
+ * Taking a snapshot of a list that differs from the previous one in a few elements therefore costs a few new chunks
+ * and the list of chunks, rather than a copy of every element.
+ */
+final class ChunkedList<T> extends AbstractList<T> {
+
+    static final int CHUNK_BOUNDARY_BITS = 4;
+    static final int MAX_CHUNK_SIZE = 64;
+
+    private final List<List<T>> chunks;
+    /** The index of the first element of each chunk, followed by the size of the list. */
+    private final int[] chunkStarts;
+
+    private ChunkedList(List<List<T>> chunks) {
+        this.chunks = chunks;
+        chunkStarts = new int[chunks.size() + 1];
+        for (int i = 0; i < chunks.size(); i++) {
+            chunkStarts[i + 1] = chunkStarts[i] + chunks.get(i).size();
+        }
+    }
+
+    /**
+     * Returns a snapshot of {@code elements}, sharing the chunks of {@code previous} that hold the same objects.
+     * {@code previous} may be null if there is no snapshot before it.
+     */
+    static <T> ChunkedList<T> of(List<? extends T> elements, ChunkedList<T> previous) {
+        requireNonNull(elements);
+
+        Map<T, List<T>> previousChunksByFirst = new IdentityHashMap<>();
+        if (previous != null) {
+            for (List<T> chunk : previous.chunks) {
+                previousChunksByFirst.put(chunk.get(0), chunk);
+            }
+        }
+
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            T element = elements.get(i);
+            chunk.add(element);
+            boolean isBoundary = (System.identityHashCode(element) & ((1 << CHUNK_BOUNDARY_BITS) - 1)) == 0;
+            if (isBoundary || chunk.size() == MAX_CHUNK_SIZE || i == elements.size() - 1) {
+                List<T> previousChunk = previousChunksByFirst.get(chunk.get(0));
+                chunks.add(previousChunk != null && isSameObjects(previousChunk, chunk)
+                        ? previousChunk
+                        : Collections.unmodifiableList(new ArrayList<>(chunk)));
+                chunk.clear();
+            }
+        }
+        return new ChunkedList<>(chunks);
+    }
+
+    /**
+     * Returns the number of chunks shared between this snapshot and {@code other}.
+     */
+    int countSharedChunks(ChunkedList<T> other) {
+        Map<List<T>, Boolean> otherChunks = new IdentityHashMap<>();
+        other.chunks.forEach(chunk -> otherChunks.put(chunk, true));
+        return (int) chunks.stream().filter(otherChunks::containsKey).count();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunkStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return chunks.get(low).get(index - chunkStarts[low]);
+    }
+
+    @Override
+    public int size() {
+        return chunkStarts[chunks.size()];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int chunkIndex = 0;
+            private int indexInChunk = 0;
+
+            @Override
+            public boolean hasNext() {
+                return chunkIndex < chunks.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = chunks.get(chunkIndex);
+                T element = chunk.get(indexInChunk++);
+                if (indexInChunk == chunk.size()) {
+                    chunkIndex++;
+                    indexInChunk = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    private static <T> boolean isSameObjects(List<T> first, List<T> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,16 @@
 package taskbook.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import taskbook.commons.core.GuiSettings;
+import taskbook.commons.exceptions.DataConversionException;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
 import taskbook.model.task.Task;
@@ -54,6 +59,13 @@ public interface Model {
      */
     void commitTaskBook();
 
+    /**
+     * Returns the number of modifications made to the TaskBook so far.
+     * The count changes whenever a state-changing commit, undo, redo or replacement of the TaskBook happens.
+     * @see VersionedTaskBook#getModificationCount()
+     */
+    long getTaskBookModificationCount();
+
     /**
      * Returns true if possible to revert the TaskBook to the previous state in the version history.
      * @see VersionedTaskBook#canUndo()
@@ -83,6 +95,15 @@ public interface Model {
      */
     void setTaskBook(ReadOnlyTaskBook taskBook);
 
+    /**
+     * Applies the changes that turn {@code base} into {@code changed} to the task book data, and commits the result
+     * to the version history. Persons and tasks that were not changed are left as they are.
+     *
+     * @return the number of persons and tasks removed, replaced or added.
+     * @see TaskBook#applyChanges(ReadOnlyTaskBook, ReadOnlyTaskBook)
+     */
+    int applyTaskBookChanges(ReadOnlyTaskBook base, ReadOnlyTaskBook changed);
+
     /** Returns the TaskBook */
     ReadOnlyTaskBook getTaskBook();
 
@@ -120,6 +141,32 @@ public interface Model {
      */
     void setTask(Task target, Task editedTask);
 
+    /**
+     * Moves the tasks matching {@code predicate} out of the task book into the task archive.
+     * @return the tasks archived.
+     * @throws IOException if there was any problem writing to the archive, in which case no task is moved.
+     */
+    List<Task> archiveTasks(Predicate<Task> predicate) throws IOException;
+
+    /**
+     * Returns a stream that reads the tasks in the task archive, which must be closed after use.
+     * @throws IOException if there was any problem opening the archive.
+     */
+    Stream<Task> streamArchivedTasks() throws IOException;
+
+    /**
+     * Returns the times the backups of the task book were taken, newest first.
+     * @throws IOException if there was any problem reading the backups.
+     */
+    List<Instant> getBackupGenerations() throws IOException;
+
+    /**
+     * Reads the backup of the task book taken at {@code generation}.
+     * @throws DataConversionException if the backup is not in the correct format.
+     * @throws IOException if there was any problem reading the backup.
+     */
+    ReadOnlyTaskBook readBackupGeneration(Instant generation) throws DataConversionException, IOException;
+
     /**
      * Returns true if the person can be deleted.
      */
@@ -137,6 +184,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons and tasks in one change to each list.
+     * None of them may already exist in the task book.
+     */
+    void addAll(List<Person> persons, List<Task> tasks);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the task book.
@@ -3,16 +3,25 @@ package taskbook.model;
 import static java.util.Objects.requireNonNull;
 import static taskbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import taskbook.commons.core.GuiSettings;
 import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
 import taskbook.model.task.Task;
@@ -29,21 +38,42 @@ public class ModelManager implements Model {
     private final SortedList<Person> sortedPersons;
     private final FilteredList<Task> filteredTasks;
     private final SortedList<Task> sortedTasks;
+    private final TaskArchive taskArchive;
+    private final TaskBookBackups taskBookBackups;
+    /** The tasks appended to the archive by this model, by identity, which undo may bring back. */
+    private final Set<Task> appendedToArchive = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
-     * Initializes a ModelManager with the given taskBook and userPrefs.
+     * Initializes a ModelManager with the given taskBook, userPrefs, taskArchive and taskBookBackups.
      */
-    public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(taskBook, userPrefs);
+    public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs, TaskArchive taskArchive,
+            TaskBookBackups taskBookBackups) {
+        requireAllNonNull(taskBook, userPrefs, taskArchive, taskBookBackups);
 
         logger.fine("Initializing with task book: " + taskBook + " and user prefs " + userPrefs);
 
-        versionedTaskBook = new VersionedTaskBook(new TaskBook(taskBook));
+        versionedTaskBook = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG, new TaskBook(taskBook));
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(versionedTaskBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
         filteredTasks = new FilteredList<>(versionedTaskBook.getTaskList());
         sortedTasks = new SortedList<>(filteredTasks);
+        this.taskArchive = taskArchive;
+        this.taskBookBackups = taskBookBackups;
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskBook, userPrefs and taskArchive, without backups.
+     */
+    public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs, TaskArchive taskArchive) {
+        this(taskBook, userPrefs, taskArchive, new UnavailableTaskBookBackups());
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskBook and userPrefs, without a task archive.
+     */
+    public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs) {
+        this(taskBook, userPrefs, new UnavailableTaskArchive());
     }
 
     public ModelManager() {
@@ -92,6 +122,11 @@ public class ModelManager implements Model {
         versionedTaskBook.commit();
     }
 
+    @Override
+    public long getTaskBookModificationCount() {
+        return versionedTaskBook.getModificationCount();
+    }
+
     @Override
     public boolean canUndoTaskBook() {
         return versionedTaskBook.canUndo();
@@ -117,6 +152,13 @@ public class ModelManager implements Model {
         versionedTaskBook.resetData(taskBook);
     }
 
+    @Override
+    public int applyTaskBookChanges(ReadOnlyTaskBook base, ReadOnlyTaskBook changed) {
+        int changeCount = versionedTaskBook.applyChanges(base, changed);
+        versionedTaskBook.commit();
+        return changeCount;
+    }
+
     @Override
     public ReadOnlyTaskBook getTaskBook() {
         return versionedTaskBook;
@@ -161,6 +203,15 @@ public class ModelManager implements Model {
         versionedTaskBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void addAll(List<Person> persons, List<Task> tasks) {
+        requireAllNonNull(persons, tasks);
+
+        versionedTaskBook.addAll(persons, tasks);
+        updateFilteredPersonListPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredTaskListPredicate(PREDICATE_SHOW_ALL_TASKS);
+    }
+
     @Override
     public void addTask(Task task) {
         versionedTaskBook.addTask(task);
@@ -185,6 +236,42 @@ public class ModelManager implements Model {
         versionedTaskBook.setTask(target, editedTask);
     }
 
+    @Override
+    public List<Task> archiveTasks(Predicate<Task> predicate) throws IOException {
+        requireNonNull(predicate);
+
+        List<Task> toArchive = versionedTaskBook.getTaskList().stream().filter(predicate)
+                .collect(Collectors.toList());
+        if (!toArchive.isEmpty()) {
+            // tasks brought back by undoing an archive are the very instances appended then, and are not
+            // appended again, while equal tasks added since are
+            List<Task> toAppend = toArchive.stream().filter(task -> !appendedToArchive.contains(task))
+                    .collect(Collectors.toList());
+            taskArchive.append(toAppend);
+            appendedToArchive.addAll(toAppend);
+            versionedTaskBook.deleteTasks(toArchive);
+        }
+        return toArchive;
+    }
+
+    @Override
+    public Stream<Task> streamArchivedTasks() throws IOException {
+        return taskArchive.stream();
+    }
+
+    //=========== Backups ====================================================================================
+
+    @Override
+    public List<Instant> getBackupGenerations() throws IOException {
+        return taskBookBackups.getGenerations();
+    }
+
+    @Override
+    public ReadOnlyTaskBook readBackupGeneration(Instant generation) throws DataConversionException, IOException {
+        requireNonNull(generation);
+        return taskBookBackups.readGeneration(generation);
+    }
+
     //=========== Filtered Person & Task List Accessors =============================================================
 
     /**
@@ -276,4 +363,34 @@ public class ModelManager implements Model {
                 && sortedTasks.equals(other.sortedTasks);
     }
 
+
+    /**
+     * The archive of a model that has none, which holds no tasks and refuses to archive any.
+     */
+    private static class UnavailableTaskArchive implements TaskArchive {
+        @Override
+        public void append(List<Task> tasks) throws IOException {
+            throw new IOException("There is no task archive.");
+        }
+
+        @Override
+        public Stream<Task> stream() {
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * The backups of a model that has none, which hold no generations.
+     */
+    private static class UnavailableTaskBookBackups implements TaskBookBackups {
+        @Override
+        public List<Instant> getGenerations() {
+            return List.of();
+        }
+
+        @Override
+        public ReadOnlyTaskBook readGeneration(Instant generation) throws IOException {
+            throw new IOException("There are no backups.");
+        }
+    }
 }
@@ -13,4 +13,13 @@ public interface ReadOnlyUserPrefs {
 
     Path getTaskBookFilePath();
 
+    TaskBookFormat getTaskBookFormat();
+
+    boolean isTaskBookCompressed();
+
+    /**
+     * Returns the number of days after its date that a done task is archived at startup, or 0 if it never is.
+     */
+    int getTaskArchiveAgeDays();
+
 }
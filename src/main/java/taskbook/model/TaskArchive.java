@@ -0,0 +1,27 @@
+package taskbook.model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import taskbook.model.task.Task;
+
+/**
+ * A store of tasks moved out of the task book.
+ * Archived tasks are only appended to the store, and are read from it when queried rather than kept in memory.
+ */
+public interface TaskArchive {
+
+    /**
+     * Appends {@code tasks} to the archive.
+     * @throws IOException if there was any problem writing to the archive.
+     */
+    void append(List<Task> tasks) throws IOException;
+
+    /**
+     * Returns a stream that reads the archived tasks in the order they were archived.
+     * The stream must be closed after use.
+     * @throws IOException if there was any problem opening the archive.
+     */
+    Stream<Task> stream() throws IOException;
+}
@@ -2,7 +2,9 @@ package taskbook.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -58,6 +60,29 @@ public class TaskBook implements ReadOnlyTaskBook {
         this.tasks.setTasks(tasks);
     }
 
+    /**
+     * Replaces the {@code count} persons starting at {@code index} with {@code persons}.
+     */
+    void setPersons(int index, int count, List<Person> persons) {
+        this.persons.setPersons(index, count, persons);
+    }
+
+    /**
+     * Replaces the {@code count} tasks starting at {@code index} with {@code tasks}.
+     */
+    void setTasks(int index, int count, List<Task> tasks) {
+        this.tasks.setTasks(index, count, tasks);
+    }
+
+    /**
+     * Replaces each task that is a key of {@code editedTasks} with its value, leaving the other tasks untouched.
+     *
+     * @return the indexes of the replaced tasks, in ascending order.
+     */
+    List<Integer> setTasks(Map<Task, Task> editedTasks) {
+        return tasks.setTasks(editedTasks);
+    }
+
     /**
      * Resets the existing data of this {@code TaskBook} with {@code newData}.
      */
@@ -68,6 +93,20 @@ public class TaskBook implements ReadOnlyTaskBook {
         setTasks(newData.getTaskList());
     }
 
+    /**
+     * Applies to this {@code TaskBook} the changes that turn {@code base} into {@code changed},
+     * keeping any of its own changes to persons and tasks that {@code changed} did not touch.
+     *
+     * @return the number of persons and tasks removed, replaced or added.
+     */
+    public int applyChanges(ReadOnlyTaskBook base, ReadOnlyTaskBook changed) {
+        requireNonNull(base);
+        requireNonNull(changed);
+
+        return persons.applyChanges(base.getPersonList(), changed.getPersonList())
+                + tasks.applyChanges(base.getTaskList(), changed.getTaskList());
+    }
+
     //// person-level operations
 
     /**
@@ -94,6 +133,15 @@ public class TaskBook implements ReadOnlyTaskBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code toAddPersons} and {@code toAddTasks} to the task book, each list in one change.
+     * None of them may already exist in the task book.
+     */
+    public void addAll(List<Person> toAddPersons, List<Task> toAddTasks) {
+        persons.addAll(toAddPersons);
+        tasks.addAll(toAddTasks);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the task book.
@@ -107,7 +155,7 @@ public class TaskBook implements ReadOnlyTaskBook {
     }
 
     /**
-     * Propagates name change to all associated tasks.
+     * Propagates name change to all associated tasks, replacing only those tasks in the list.
      */
     private void propagateNameChange(Person original, Person edited) {
         Name name = original.getName();
@@ -117,24 +165,19 @@ public class TaskBook implements ReadOnlyTaskBook {
             return;
         }
 
-        for (Task task : tasks) {
-            if (!task.getName().equals(name)) {
-                continue;
-            }
-
-            EditTaskDescriptor descriptor = new EditTaskDescriptor();
-            descriptor.setName(editedName);
-            Task editedTask;
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setName(editedName);
+        Map<Task, Task> editedTasks = new IdentityHashMap<>();
+        for (Task task : tasks.getTasksOf(name)) {
             try {
-                editedTask = task.createEditedCopy(descriptor);
+                editedTasks.put(task, task.createEditedCopy(descriptor));
             } catch (CommandException e) {
                 // Should not happen because name exists on all task types.
                 String logMessage = String.format("Failed to propagate name change to task %s.", task);
                 Logger.getGlobal().warning(logMessage);
-                continue;
             }
-            tasks.setTask(task, editedTask);
         }
+        setTasks(editedTasks);
     }
 
     /**
@@ -152,15 +195,7 @@ public class TaskBook implements ReadOnlyTaskBook {
             return false;
         }
 
-        Name name = key.getName();
-
-        for (Task task : tasks) {
-            if (task.getName().equals(name)) {
-                return false;
-            }
-        }
-
-        return true;
+        return !tasks.hasTasksOf(key.getName());
     }
 
     /**
@@ -193,6 +228,14 @@ public class TaskBook implements ReadOnlyTaskBook {
         tasks.add(t);
     }
 
+    /**
+     * Removes {@code toRemove} from this {@code TaskBook}.
+     * The tasks must be the tasks held by the task book.
+     */
+    public void deleteTasks(List<Task> toRemove) {
+        tasks.removeAll(toRemove);
+    }
+
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the task book.
@@ -0,0 +1,26 @@
+package taskbook.model;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import taskbook.commons.exceptions.DataConversionException;
+
+/**
+ * A store of earlier generations of the task book, taken from time to time as the task book is saved.
+ */
+public interface TaskBookBackups {
+
+    /**
+     * Returns the times the generations in the store were taken, newest first.
+     * @throws IOException if there was any problem reading the store.
+     */
+    List<Instant> getGenerations() throws IOException;
+
+    /**
+     * Reads the generation taken at {@code generation}.
+     * @throws DataConversionException if the generation is not in the correct format.
+     * @throws IOException if there was any problem reading the generation.
+     */
+    ReadOnlyTaskBook readGeneration(Instant generation) throws DataConversionException, IOException;
+}
@@ -0,0 +1,8 @@
+package taskbook.model;
+
+/**
+ * Represents the file format the task book is stored in.
+ */
+public enum TaskBookFormat {
+    JSON, BINARY, SEGMENTED, SQL
+}
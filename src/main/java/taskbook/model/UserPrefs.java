@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskBookFilePath = Paths.get("data" , "taskbook.json");
+    private TaskBookFormat taskBookFormat = TaskBookFormat.JSON;
+    private boolean isTaskBookCompressed = false;
+    private int taskArchiveAgeDays = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskBookFilePath(newUserPrefs.getTaskBookFilePath());
+        setTaskBookFormat(newUserPrefs.getTaskBookFormat());
+        setTaskBookCompressed(newUserPrefs.isTaskBookCompressed());
+        setTaskArchiveAgeDays(newUserPrefs.getTaskArchiveAgeDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.taskBookFilePath = taskBookFilePath;
     }
 
+    public TaskBookFormat getTaskBookFormat() {
+        return taskBookFormat;
+    }
+
+    public void setTaskBookFormat(TaskBookFormat taskBookFormat) {
+        requireNonNull(taskBookFormat);
+        this.taskBookFormat = taskBookFormat;
+    }
+
+    public boolean isTaskBookCompressed() {
+        return isTaskBookCompressed;
+    }
+
+    public void setTaskBookCompressed(boolean isTaskBookCompressed) {
+        this.isTaskBookCompressed = isTaskBookCompressed;
+    }
+
+    public int getTaskArchiveAgeDays() {
+        return taskArchiveAgeDays;
+    }
+
+    public void setTaskArchiveAgeDays(int taskArchiveAgeDays) {
+        this.taskArchiveAgeDays = taskArchiveAgeDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +99,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && taskBookFilePath.equals(o.taskBookFilePath);
+                && taskBookFilePath.equals(o.taskBookFilePath)
+                && taskBookFormat == o.taskBookFormat
+                && isTaskBookCompressed == o.isTaskBookCompressed
+                && taskArchiveAgeDays == o.taskArchiveAgeDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskBookFilePath);
+        return Objects.hash(guiSettings, taskBookFilePath, taskBookFormat, isTaskBookCompressed,
+                taskArchiveAgeDays);
     }
 
     @Override
@@ -81,6 +116,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + taskBookFilePath);
+        sb.append("\nLocal data file format : " + taskBookFormat);
+        sb.append("\nLocal data file compressed : " + isTaskBookCompressed);
+        sb.append("\nArchive done tasks after days : " + taskArchiveAgeDays);
         return sb.toString();
     }
 
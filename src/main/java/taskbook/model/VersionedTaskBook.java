@@ -1,41 +1,95 @@
 package taskbook.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
 
 /**
  * TaskBook with version history.
+ * By default, each state in the history is a snapshot of the persons and tasks held as {@link ChunkedList}s, which
+ * share their unchanged chunks with the state before, so that a commit that changes a few records costs a few chunks.
+ * Undo and redo replace only the range of records that differs from the state being restored.
+ *
+ * With {@link HistoryMode#OPERATION_LOG}, each state is instead kept as the operations that turned the state before
+ * into it, each holding only the records it removed and added. Undo reverts those operations in reverse order and
+ * redo applies them again, so both the size of a state and the time to restore it depend on the size of the change
+ * rather than of the task book, which allows a much longer history.
  */
 public class VersionedTaskBook extends TaskBook {
 
+    /**
+     * How the states in the version history are kept.
+     */
+    public enum HistoryMode {
+        SNAPSHOTS, OPERATION_LOG
+    }
+
     private static final int DEFAULT_CAPACITY = 15;
     private static final int MAXIMUM_CAPACITY = 100;
+    private static final int DEFAULT_OPERATION_LOG_CAPACITY = 1000;
+    private static final int MAXIMUM_OPERATION_LOG_CAPACITY = 5000;
+    private static final RecordList<Person> PERSONS = TaskBook::setPersons;
+    private static final RecordList<Task> TASKS = TaskBook::setTasks;
+
+    private final HistoryMode mode;
     private final int capacity;
-    private ArrayList<TaskBook> taskBookStateList;
+    private ArrayList<Version> taskBookStateList;
     private int pointer;
+    private long modificationCount;
+    /** The operations made since the last commit, which are only recorded with an operation log. */
+    private ArrayList<Operation<?>> pendingOperations = new ArrayList<>();
 
     /**
-     * Creates a VersionedTaskBook with the given {@code capacity} and {@code initialState}.
+     * Creates a VersionedTaskBook that keeps its history as given by {@code mode}, with the given {@code capacity}
+     * and {@code initialState}.
      * Defensively creates a copy of the {@code initialState}.
      */
-    public VersionedTaskBook(int capacity, TaskBook initialState) {
+    public VersionedTaskBook(HistoryMode mode, int capacity, TaskBook initialState) {
         super(initialState);
+        requireNonNull(mode);
 
         // Defensively ensure that the capacity does not ensure a certain threshold.
-        if (capacity > MAXIMUM_CAPACITY) {
-            capacity = MAXIMUM_CAPACITY;
+        int maximumCapacity = mode == HistoryMode.SNAPSHOTS ? MAXIMUM_CAPACITY : MAXIMUM_OPERATION_LOG_CAPACITY;
+        if (capacity > maximumCapacity) {
+            capacity = maximumCapacity;
         }
 
+        this.mode = mode;
         this.capacity = capacity;
         taskBookStateList = new ArrayList<>();
-        taskBookStateList.add(new TaskBook(initialState));
+        taskBookStateList.add(mode == HistoryMode.SNAPSHOTS ? new State(this, null) : new Operations(List.of()));
         pointer = 0;
     }
 
     /**
-     * Creates a VersionedTaskBook with the default capacity and the given {@code initialState}.
+     * Creates a VersionedTaskBook that keeps snapshots, with the given {@code capacity} and {@code initialState}.
+     */
+    public VersionedTaskBook(int capacity, TaskBook initialState) {
+        this(HistoryMode.SNAPSHOTS, capacity, initialState);
+    }
+
+    /**
+     * Creates a VersionedTaskBook that keeps its history as given by {@code mode}, with the default capacity of
+     * that mode and the given {@code initialState}.
+     */
+    public VersionedTaskBook(HistoryMode mode, TaskBook initialState) {
+        this(mode, mode == HistoryMode.SNAPSHOTS ? DEFAULT_CAPACITY : DEFAULT_OPERATION_LOG_CAPACITY, initialState);
+    }
+
+    /**
+     * Creates a VersionedTaskBook that keeps snapshots, with the default capacity and the given {@code initialState}.
      */
     public VersionedTaskBook(TaskBook initialState) {
-        this(DEFAULT_CAPACITY, initialState);
+        this(HistoryMode.SNAPSHOTS, initialState);
     }
 
     /**
@@ -49,11 +103,14 @@ public class VersionedTaskBook extends TaskBook {
      * Creates a VersionedTaskBook with the equal to the given {@code toBeCopied}.
      */
     public VersionedTaskBook(VersionedTaskBook toBeCopied) {
+        mode = toBeCopied.mode;
         capacity = toBeCopied.capacity;
         taskBookStateList = new ArrayList<>();
         pointer = toBeCopied.pointer;
+        modificationCount = toBeCopied.modificationCount;
 
         taskBookStateList.addAll(toBeCopied.taskBookStateList);
+        pendingOperations.addAll(toBeCopied.pendingOperations);
     }
 
     /**
@@ -61,8 +118,11 @@ public class VersionedTaskBook extends TaskBook {
      * Ensure that commits that with no state change do not clog the version history.
      */
     private boolean isDuplicateCommit() {
-        TaskBook newestState = taskBookStateList.get(pointer);
-        return newestState.equals(this);
+        if (mode == HistoryMode.OPERATION_LOG) {
+            return pendingOperations.isEmpty();
+        }
+        State newestState = (State) taskBookStateList.get(pointer);
+        return newestState.isStateOf(this);
     }
 
     private void pruneFutureStatesIfRequired() {
@@ -70,9 +130,9 @@ public class VersionedTaskBook extends TaskBook {
             return;
         }
 
-        ArrayList<TaskBook> prunedList = new ArrayList<>(capacity);
+        ArrayList<Version> prunedList = new ArrayList<>(capacity);
         for (int i = 0; i <= pointer; i++) {
-            TaskBook state = taskBookStateList.get(i);
+            Version state = taskBookStateList.get(i);
             prunedList.add(state);
         }
 
@@ -86,9 +146,9 @@ public class VersionedTaskBook extends TaskBook {
             return;
         }
 
-        ArrayList<TaskBook> prunedList = new ArrayList<>(capacity);
+        ArrayList<Version> prunedList = new ArrayList<>(capacity);
         for (int i = 0; i < capacity; i++) {
-            TaskBook state = taskBookStateList.get(capacity + i + 1);
+            Version state = taskBookStateList.get(capacity + i + 1);
             prunedList.add(state);
         }
 
@@ -109,18 +169,59 @@ public class VersionedTaskBook extends TaskBook {
         }
 
         pruneFutureStatesIfRequired();
-        // Defensively commit a copy of the state instead.
-        TaskBook copy = new TaskBook(this);
-        taskBookStateList.add(copy);
+        if (mode == HistoryMode.SNAPSHOTS) {
+            // Commit a snapshot of the state, sharing what did not change with the state it follows.
+            taskBookStateList.add(new State(this, (State) taskBookStateList.get(pointer)));
+        } else {
+            taskBookStateList.add(new Operations(pendingOperations));
+            pendingOperations = new ArrayList<>();
+        }
         pruneToCapacityIfRequired();
 
         // Set the pointer to point to the newest command.
         pointer = taskBookStateList.size() - 1;
+        modificationCount++;
     }
-    private void setPointedAsCurrentData() {
-        TaskBook pointedState = taskBookStateList.get(pointer);
-        TaskBook copy = new TaskBook(pointedState);
-        resetData(copy);
+
+    /**
+     * Replaces the current data with {@code newData} and counts it as a modification.
+     */
+    @Override
+    public void resetData(ReadOnlyTaskBook newData) {
+        super.resetData(newData);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times the current data has been committed or replaced.
+     * The count only increases, so callers can compare two readings to tell whether anything changed in between.
+     * Commits that do not change the state are not counted.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Reverts the operations made since the last commit, so that the current data is the pointed state again.
+     */
+    private void revertPendingOperations() {
+        for (int i = pendingOperations.size() - 1; i >= 0; i--) {
+            pendingOperations.get(i).revert(this);
+        }
+        pendingOperations.clear();
+    }
+
+    /**
+     * Returns the number of chunks of records that the current state shares with the state before it.
+     * States kept as operations share no chunks.
+     */
+    int countChunksSharedWithPreviousState() {
+        if (!canUndo() || mode != HistoryMode.SNAPSHOTS) {
+            return 0;
+        }
+        State current = (State) taskBookStateList.get(pointer);
+        State previous = (State) taskBookStateList.get(pointer - 1);
+        return current.persons.countSharedChunks(previous.persons) + current.tasks.countSharedChunks(previous.tasks);
     }
 
     /**
@@ -141,8 +242,10 @@ public class VersionedTaskBook extends TaskBook {
             return;
         }
 
+        revertPendingOperations();
+        taskBookStateList.get(pointer).undo(this, taskBookStateList.get(pointer - 1));
         pointer--;
-        setPointedAsCurrentData();
+        modificationCount++;
     }
 
     /**
@@ -163,8 +266,186 @@ public class VersionedTaskBook extends TaskBook {
             return;
         }
 
+        revertPendingOperations();
         pointer++;
-        setPointedAsCurrentData();
+        taskBookStateList.get(pointer).redo(this);
+        modificationCount++;
+    }
+
+    //// operations recorded in the operation log
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        if (!isRecording()) {
+            super.setPersons(persons);
+            return;
+        }
+
+        List<Person> before = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        recordChange(PERSONS, before, getPersonList());
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        if (!isRecording()) {
+            super.setTasks(tasks);
+            return;
+        }
+
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.setTasks(tasks);
+        recordChange(TASKS, before, getTaskList());
+    }
+
+    @Override
+    public int applyChanges(ReadOnlyTaskBook base, ReadOnlyTaskBook changed) {
+        if (!isRecording()) {
+            return super.applyChanges(base, changed);
+        }
+
+        List<Person> personsBefore = new ArrayList<>(getPersonList());
+        List<Task> tasksBefore = new ArrayList<>(getTaskList());
+        int changeCount = super.applyChanges(base, changed);
+        recordChange(PERSONS, personsBefore, getPersonList());
+        recordChange(TASKS, tasksBefore, getTaskList());
+        return changeCount;
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = getPersonList().size();
+        super.addPerson(p);
+        record(new Operation<>(PERSONS, index, List.of(), List.of(p)));
+    }
+
+    @Override
+    public void addAll(List<Person> toAddPersons, List<Task> toAddTasks) {
+        int personIndex = getPersonList().size();
+        int taskIndex = getTaskList().size();
+        super.addAll(toAddPersons, toAddTasks);
+        record(new Operation<>(PERSONS, personIndex, List.of(), toAddPersons));
+        record(new Operation<>(TASKS, taskIndex, List.of(), toAddTasks));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        if (!isRecording()) {
+            super.setPerson(target, editedPerson);
+            return;
+        }
+
+        int index = getPersonList().indexOf(target);
+        super.setPerson(target, editedPerson);
+        record(new Operation<>(PERSONS, index, List.of(target), List.of(editedPerson)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each task is recorded as replaced where it is, so that undoing the change restores it in place. This is how
+     * the tasks renamed along with a person are recorded.
+     */
+    @Override
+    List<Integer> setTasks(Map<Task, Task> editedTasks) {
+        List<Integer> replacedIndexes = super.setTasks(editedTasks);
+        if (isRecording()) {
+            Map<Task, Task> originals = new IdentityHashMap<>();
+            editedTasks.forEach((original, edited) -> originals.put(edited, original));
+            for (int index : replacedIndexes) {
+                Task editedTask = getTaskList().get(index);
+                record(new Operation<>(TASKS, index, List.of(originals.get(editedTask)), List.of(editedTask)));
+            }
+        }
+        return replacedIndexes;
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        int sizeBefore = getPersonList().size();
+        super.removePerson(key);
+        if (getPersonList().size() < sizeBefore) {
+            record(new Operation<>(PERSONS, index, List.of(key), List.of()));
+        }
+    }
+
+    @Override
+    public void addTask(Task t) {
+        int index = getTaskList().size();
+        super.addTask(t);
+        record(new Operation<>(TASKS, index, List.of(), List.of(t)));
+    }
+
+    @Override
+    public void deleteTasks(List<Task> toRemove) {
+        if (!isRecording()) {
+            super.deleteTasks(toRemove);
+            return;
+        }
+
+        Set<Task> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(toRemove);
+        List<Integer> removedIndexes = new ArrayList<>();
+        for (int i = 0; i < getTaskList().size(); i++) {
+            if (removed.contains(getTaskList().get(i))) {
+                removedIndexes.add(i);
+            }
+        }
+        List<Task> removedTasks = new ArrayList<>();
+        removedIndexes.forEach(i -> removedTasks.add(getTaskList().get(i)));
+
+        super.deleteTasks(toRemove);
+        // Recorded from the last task, so that each index is still that of the task it removes.
+        for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+            record(new Operation<>(TASKS, removedIndexes.get(i), List.of(removedTasks.get(i)), List.of()));
+        }
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        int index = getTaskList().indexOf(target);
+        super.setTask(target, editedTask);
+        record(new Operation<>(TASKS, index, List.of(target), List.of(editedTask)));
+    }
+
+    @Override
+    public void deleteTask(Task t) {
+        int index = getTaskList().indexOf(t);
+        super.deleteTask(t);
+        record(new Operation<>(TASKS, index, List.of(t), List.of()));
+    }
+
+    /**
+     * Returns true if operations are recorded for the next commit.
+     * This is false while the task book is being constructed, as the initial state is not an operation.
+     */
+    private boolean isRecording() {
+        return mode == HistoryMode.OPERATION_LOG;
+    }
+
+    private void record(Operation<?> operation) {
+        if (isRecording() && !operation.isEmpty()) {
+            pendingOperations.add(operation);
+        }
+    }
+
+    /**
+     * Records the replacement of the range of records that differs between {@code before} and {@code after}.
+     */
+    private <T> void recordChange(RecordList<T> list, List<T> before, List<T> after) {
+        int prefix = 0;
+        int maxCommon = Math.min(before.size(), after.size());
+        while (prefix < maxCommon && before.get(prefix).equals(after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && before.get(before.size() - 1 - suffix).equals(after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        record(new Operation<>(list, prefix, before.subList(prefix, before.size() - suffix),
+                after.subList(prefix, after.size() - suffix)));
     }
 
     /**
@@ -190,4 +471,157 @@ public class VersionedTaskBook extends TaskBook {
 
         return taskBookStateList.equals(other.taskBookStateList) && pointer == other.pointer;
     }
+
+    /**
+     * A state in the version history.
+     */
+    private interface Version {
+        /**
+         * Turns the data of {@code taskBook} into this state, from the state before it.
+         */
+        void redo(TaskBook taskBook);
+
+        /**
+         * Turns the data of {@code taskBook} from this state into {@code previous}, the state before it.
+         */
+        void undo(TaskBook taskBook, Version previous);
+    }
+
+    /**
+     * A state in the version history, kept as a snapshot.
+     */
+    private static class State implements Version {
+        private final ChunkedList<Person> persons;
+        private final ChunkedList<Task> tasks;
+
+        /**
+         * Creates a snapshot of {@code taskBook}, sharing chunks with {@code previous} if it is not null.
+         */
+        State(ReadOnlyTaskBook taskBook, State previous) {
+            persons = ChunkedList.of(taskBook.getPersonList(), previous == null ? null : previous.persons);
+            tasks = ChunkedList.of(taskBook.getTaskList(), previous == null ? null : previous.tasks);
+        }
+
+        boolean isStateOf(ReadOnlyTaskBook taskBook) {
+            return persons.equals(taskBook.getPersonList()) && tasks.equals(taskBook.getTaskList());
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            taskBook.setPersons(persons);
+            taskBook.setTasks(tasks);
+        }
+
+        @Override
+        public void undo(TaskBook taskBook, Version previous) {
+            previous.redo(taskBook);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof State
+                    && persons.equals(((State) other).persons)
+                    && tasks.equals(((State) other).tasks));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(persons, tasks);
+        }
+    }
+
+    /**
+     * A state in the version history, kept as the operations that turned the state before it into this state.
+     */
+    private static class Operations implements Version {
+        private final List<Operation<?>> operations;
+
+        Operations(List<Operation<?>> operations) {
+            this.operations = List.copyOf(operations);
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            operations.forEach(operation -> operation.apply(taskBook));
+        }
+
+        @Override
+        public void undo(TaskBook taskBook, Version previous) {
+            for (int i = operations.size() - 1; i >= 0; i--) {
+                operations.get(i).revert(taskBook);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Operations
+                    && operations.equals(((Operations) other).operations));
+        }
+
+        @Override
+        public int hashCode() {
+            return operations.hashCode();
+        }
+    }
+
+    /**
+     * Replaces the {@code count} records starting at {@code index} of one list of {@code taskBook} with
+     * {@code records}.
+     */
+    @FunctionalInterface
+    private interface RecordList<T> {
+        void set(TaskBook taskBook, int index, int count, List<T> records);
+    }
+
+    /**
+     * An operation on one list of a task book, which replaced the records {@code removed} starting at
+     * {@code index} with the records {@code added}.
+     */
+    private static class Operation<T> {
+        private final RecordList<T> list;
+        private final int index;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Operation(RecordList<T> list, int index, List<? extends T> removed, List<? extends T> added) {
+            this.list = list;
+            this.index = index;
+            this.removed = List.copyOf(removed);
+            this.added = List.copyOf(added);
+        }
+
+        boolean isEmpty() {
+            return removed.isEmpty() && added.isEmpty();
+        }
+
+        void apply(TaskBook taskBook) {
+            list.set(taskBook, index, removed.size(), added);
+        }
+
+        void revert(TaskBook taskBook) {
+            list.set(taskBook, index, added.size(), removed);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            } else if (!(other instanceof Operation)) {
+                return false;
+            }
+
+            Operation<?> otherOperation = (Operation<?>) other;
+            return list == otherOperation.list
+                    && index == otherOperation.index
+                    && removed.equals(otherOperation.removed)
+                    && added.equals(otherOperation.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removed, added);
+        }
+    }
 }
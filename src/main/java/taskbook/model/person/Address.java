@@ -28,11 +28,25 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean isChecked) {
         requireNonNull(address);
-        AppUtil.checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} of {@code address} without checking that it is valid.
+     * {@code address} must have been validated before.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
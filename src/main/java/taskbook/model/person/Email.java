@@ -42,11 +42,25 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean isChecked) {
         requireNonNull(email);
-        AppUtil.checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email} without checking that it is valid.
+     * {@code email} must have been validated before.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, false);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -30,11 +30,26 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking that it is valid.
+     * Only for values that are known to have been validated already, such as those read back from
+     * a checksummed task book file written by this version of the app.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -25,11 +25,25 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        AppUtil.checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without checking that it is valid.
+     * {@code phone} must have been validated before.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -2,8 +2,11 @@ package taskbook.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import taskbook.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are also kept in a hash map keyed by name alongside the list, so that finding a person and checking
+ * for a duplicate take constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +33,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The persons in {@code internalList} by name. */
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -41,7 +49,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person find(Name name) {
         requireNonNull(name);
-        return internalList.stream().filter(person -> person.getName().equals(name)).findAny().orElse(null);
+        return personsByName.get(name);
     }
 
     /**
@@ -50,12 +58,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (personsByName.putIfAbsent(toAdd.getName(), toAdd) != null) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list in one change.
+     * None of the persons may already exist in the list or be the same as another person in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        Map<Name, Person> added = mapByName(toAdd);
+        if (added.size() != toAdd.size() || added.keySet().stream().anyMatch(personsByName::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+        personsByName.putAll(added);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -73,6 +95,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -85,24 +109,63 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Persons at the start and end of the list that are already equal to those of {@code persons} are kept,
+     * so that listeners see only the range of persons that changed.
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        if (mapByName(persons).size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        CollectionUtil.setAllChanged(internalList, persons);
+        personsByName.clear();
+        personsByName.putAll(mapByName(internalList));
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at {@code index} with {@code persons}, leaving the rest untouched.
+     * {@code persons} must not contain duplicate persons or persons that are the same as another person left in
+     * the list.
+     */
+    public void setPersons(int index, int count, List<Person> persons) {
+        CollectionUtil.requireAllNonNull(persons);
+        List<Person> replaced = internalList.subList(index, index + count);
+        Map<Name, Person> replacedByName = mapByName(replaced);
+        Map<Name, Person> replacementByName = mapByName(persons);
+        if (replacementByName.size() != persons.size() || replacementByName.keySet().stream()
+                .anyMatch(name -> personsByName.containsKey(name) && !replacedByName.containsKey(name))) {
+            throw new DuplicatePersonException();
+        }
+
+        personsByName.keySet().removeAll(replacedByName.keySet());
+        personsByName.putAll(replacementByName);
+        replaced.clear();
+        internalList.addAll(index, new ArrayList<>(persons));
+    }
+
+    /**
+     * Applies to this list the changes that turn {@code base} into {@code changed}, matching persons by name.
+     * Persons that were not changed are left untouched, so listeners see only the persons that changed.
+     *
+     * @return the number of persons removed, replaced or added.
+     */
+    public int applyChanges(List<Person> base, List<Person> changed) {
+        int changeCount = CollectionUtil.applyChanges(internalList, base, changed, Person::getName);
+        personsByName.clear();
+        personsByName.putAll(mapByName(internalList));
+        return changeCount;
     }
 
     /**
@@ -130,16 +193,13 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} by name, which has fewer entries than persons if it has duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static Map<Name, Person> mapByName(List<Person> persons) {
+        Map<Name, Person> byName = new HashMap<>();
+        for (Person person : persons) {
+            byName.putIfAbsent(person.getName(), person);
         }
-        return true;
+        return byName;
     }
 }
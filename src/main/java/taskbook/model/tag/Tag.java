@@ -21,11 +21,25 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isChecked) {
         requireNonNull(tagName);
-        AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName} without checking that it is valid.
+     * {@code tagName} must have been validated before.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
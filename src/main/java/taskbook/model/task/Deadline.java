@@ -1,6 +1,8 @@
 package taskbook.model.task;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -66,6 +68,11 @@ public class Deadline extends Task {
         return true;
     }
 
+    @Override
+    public List<Object> getIdentity() {
+        return Arrays.asList(getClass(), getName(), getAssignment(), getDescription(), date);
+    }
+
     @Override
     public boolean isSameTask(Task other) {
         if (other == this) {
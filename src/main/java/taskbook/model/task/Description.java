@@ -29,11 +29,25 @@ public class Description {
      * @param description A valid description.
      */
     public Description(String description) {
+        this(description, true);
+    }
+
+    private Description(String description, boolean isChecked) {
         requireNonNull(description);
-        AppUtil.checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            AppUtil.checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        }
         this.description = description;
     }
 
+    /**
+     * Returns a {@code Description} of {@code description} without checking that it is valid.
+     * {@code description} must have been validated before.
+     */
+    public static Description ofTrusted(String description) {
+        return new Description(description, false);
+    }
+
     /**
      * Returns true if a given string is a valid description.
      */
@@ -3,8 +3,10 @@ package taskbook.model.task;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -97,6 +99,13 @@ public abstract class Task {
         return false;
     }
 
+    /**
+     * Returns true if this task is done and dated before {@code date}.
+     */
+    public boolean isDoneBefore(LocalDate date) {
+        return isDone && hasDate() && getDate().isBefore(date);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -124,6 +133,15 @@ public abstract class Task {
                 && other.description.equals(description);
     }
 
+    /**
+     * Returns the identity fields of this task, such that two tasks are the same task as defined by
+     * {@link #isSameTask(Task)} if and only if their identities are equal.
+     * This allows tasks to be looked up by identity in hash-based collections.
+     */
+    public List<Object> getIdentity() {
+        return Arrays.asList(getClass(), name, assignment, description);
+    }
+
     /**
      * Returns true if task is self-assigned.
      */
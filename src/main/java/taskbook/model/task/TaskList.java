@@ -2,13 +2,22 @@ package taskbook.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import taskbook.commons.util.CollectionUtil;
+import taskbook.model.person.Name;
 import taskbook.model.task.exceptions.DuplicateTaskException;
 import taskbook.model.task.exceptions.TaskNotFoundException;
 
@@ -19,6 +28,10 @@ import taskbook.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the TaskList.
  * However, the removal of a task uses Task#equals(Object) to ensure that the exact task is removed.
  *
+ * The identities of the tasks are kept in a hash set alongside the list, so that checking for a duplicate
+ * takes constant time and replacing the whole list takes linear time. The tasks are also kept by the name of
+ * the person they are assigned to or from, so that the tasks of a person are found without a scan.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -28,6 +41,10 @@ public class TaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The identities of the tasks in {@code internalList}, as returned by {@link Task#getIdentity()}. */
+    private final Set<List<Object>> identities = new HashSet<>();
+    /** The tasks in {@code internalList} by the name of their person, and then by identity. */
+    private final Map<Name, Map<List<Object>, Task>> tasksByName = new HashMap<>();
     private Comparator<Task> comparator;
 
     /**
@@ -35,7 +52,24 @@ public class TaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identities.contains(toCheck.getIdentity());
+    }
+
+    /**
+     * Returns true if the list contains a task assigned to or from the person named {@code name}.
+     */
+    public boolean hasTasksOf(Name name) {
+        requireNonNull(name);
+        return tasksByName.containsKey(name);
+    }
+
+    /**
+     * Returns the tasks in the list assigned to or from the person named {@code name}, in no particular order.
+     */
+    public List<Task> getTasksOf(Name name) {
+        requireNonNull(name);
+        Map<List<Object>, Task> tasks = tasksByName.get(name);
+        return tasks == null ? List.of() : new ArrayList<>(tasks.values());
     }
 
     /**
@@ -44,12 +78,28 @@ public class TaskList implements Iterable<Task> {
      */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(toAdd.getIdentity())) {
             throw new DuplicateTaskException();
         }
+        addToNameIndex(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list in one change.
+     * None of the tasks may already exist in the list or be the same as another task in {@code toAdd}.
+     */
+    public void addAll(List<Task> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        Set<List<Object>> added = getIdentities(toAdd);
+        if (added.size() != toAdd.size() || added.stream().anyMatch(identities::contains)) {
+            throw new DuplicateTaskException();
+        }
+        identities.addAll(added);
+        toAdd.forEach(this::addToNameIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the list.
@@ -63,13 +113,65 @@ public class TaskList implements Iterable<Task> {
             throw new TaskNotFoundException();
         }
 
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
-            throw new DuplicateTaskException();
+        if (!target.isSameTask(editedTask)) {
+            if (contains(editedTask)) {
+                throw new DuplicateTaskException();
+            }
+            identities.remove(target.getIdentity());
+            identities.add(editedTask.getIdentity());
         }
 
+        removeFromNameIndex(target);
+        addToNameIndex(editedTask);
         internalList.set(index, editedTask);
     }
 
+    /**
+     * Replaces each task that is a key of {@code editedTasks} with its value, leaving the other tasks untouched.
+     * The keys must be elements of the list itself, not merely equivalent tasks, and the edited tasks must not be
+     * the same as each other or as another existing task in the list.
+     *
+     * @return the indexes of the replaced tasks, in ascending order.
+     */
+    public List<Integer> setTasks(Map<Task, Task> editedTasks) {
+        requireNonNull(editedTasks);
+        if (editedTasks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Task, Task> edits = new IdentityHashMap<>(editedTasks);
+        Set<List<Object>> removedIdentities = new HashSet<>();
+        for (Task target : edits.keySet()) {
+            Map<List<Object>, Task> tasks = tasksByName.get(target.getName());
+            if (tasks == null || tasks.get(target.getIdentity()) != target) {
+                throw new TaskNotFoundException();
+            }
+            removedIdentities.add(target.getIdentity());
+        }
+        Set<List<Object>> addedIdentities = getIdentities(new ArrayList<>(edits.values()));
+        if (addedIdentities.size() != edits.size() || addedIdentities.stream()
+                .anyMatch(identity -> identities.contains(identity) && !removedIdentities.contains(identity))) {
+            throw new DuplicateTaskException();
+        }
+
+        identities.removeAll(removedIdentities);
+        identities.addAll(addedIdentities);
+        for (Map.Entry<Task, Task> edit : edits.entrySet()) {
+            removeFromNameIndex(edit.getKey());
+            addToNameIndex(edit.getValue());
+        }
+        // Every target is known to be in the list, so the search stops as soon as the last one is replaced.
+        List<Integer> replacedIndexes = new ArrayList<>(edits.size());
+        for (int i = 0; replacedIndexes.size() < edits.size(); i++) {
+            Task editedTask = edits.get(internalList.get(i));
+            if (editedTask != null) {
+                internalList.set(i, editedTask);
+                replacedIndexes.add(i);
+            }
+        }
+        return replacedIndexes;
+    }
+
     /**
      * Removes the equivalent task from the list.
      * The task must exist in the list.
@@ -79,24 +181,86 @@ public class TaskList implements Iterable<Task> {
         if (!internalList.remove(toRemove)) {
             throw new TaskNotFoundException();
         }
+        identities.remove(toRemove.getIdentity());
+        removeFromNameIndex(toRemove);
+    }
+
+    /**
+     * Removes the given tasks from the list in one change.
+     * The tasks must be elements of the list itself, not merely equivalent tasks.
+     */
+    public void removeAll(Collection<Task> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        Set<Task> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(toRemove);
+        if (internalList.stream().filter(removed::contains).count() != removed.size()) {
+            throw new TaskNotFoundException();
+        }
+        internalList.removeIf(removed::contains);
+        for (Task task : removed) {
+            identities.remove(task.getIdentity());
+            removeFromNameIndex(task);
+        }
     }
 
     public void setTasks(TaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setTasks(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code tasks}.
      * {@code tasks} must not contain duplicate tasks.
+     * Tasks at the start and end of the list that are already the same as those of {@code tasks} are kept,
+     * so that listeners see only the range of tasks that changed.
      */
     public void setTasks(List<Task> tasks) {
         CollectionUtil.requireAllNonNull(tasks);
-        if (!areTasksUnique(tasks)) {
+        Set<List<Object>> replacementIdentities = getIdentities(tasks);
+        if (replacementIdentities.size() != tasks.size()) {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        CollectionUtil.setAllChanged(internalList, tasks);
+        rebuildNameIndex(internalList);
+    }
+
+    /**
+     * Replaces the {@code count} tasks starting at {@code index} with {@code tasks}, leaving the rest untouched.
+     * {@code tasks} must not contain duplicate tasks or tasks that are the same as another task left in the list.
+     */
+    public void setTasks(int index, int count, List<Task> tasks) {
+        CollectionUtil.requireAllNonNull(tasks);
+        List<Task> replaced = internalList.subList(index, index + count);
+        Set<List<Object>> replacedIdentities = getIdentities(replaced);
+        Set<List<Object>> replacementIdentities = getIdentities(tasks);
+        if (replacementIdentities.size() != tasks.size() || replacementIdentities.stream()
+                .anyMatch(identity -> identities.contains(identity) && !replacedIdentities.contains(identity))) {
+            throw new DuplicateTaskException();
+        }
+
+        identities.removeAll(replacedIdentities);
+        identities.addAll(replacementIdentities);
+        replaced.forEach(this::removeFromNameIndex);
+        tasks.forEach(this::addToNameIndex);
+        replaced.clear();
+        internalList.addAll(index, new ArrayList<>(tasks));
+    }
+
+    /**
+     * Applies to this list the changes that turn {@code base} into {@code changed}, matching tasks by identity.
+     * Tasks that were not changed are left untouched, so listeners see only the tasks that changed.
+     *
+     * @return the number of tasks removed, replaced or added.
+     */
+    public int applyChanges(List<Task> base, List<Task> changed) {
+        int changeCount = CollectionUtil.applyChanges(internalList, base, changed, Task::getIdentity);
+        identities.clear();
+        identities.addAll(getIdentities(internalList));
+        rebuildNameIndex(internalList);
+        return changeCount;
     }
 
     /**
@@ -123,17 +287,30 @@ public class TaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
+    private void addToNameIndex(Task task) {
+        tasksByName.computeIfAbsent(task.getName(), name -> new HashMap<>()).put(task.getIdentity(), task);
+    }
+
+    private void removeFromNameIndex(Task task) {
+        Map<List<Object>, Task> tasks = tasksByName.get(task.getName());
+        if (tasks != null && tasks.remove(task.getIdentity()) != null && tasks.isEmpty()) {
+            tasksByName.remove(task.getName());
+        }
+    }
+
+    private void rebuildNameIndex(List<Task> tasks) {
+        tasksByName.clear();
+        tasks.forEach(this::addToNameIndex);
+    }
+
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Returns the identities of {@code tasks}, which has fewer identities than tasks if it has duplicate tasks.
      */
-    private boolean areTasksUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
-            }
+    private static Set<List<Object>> getIdentities(List<Task> tasks) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Task task : tasks) {
+            identities.add(task.getIdentity());
         }
-        return true;
+        return identities;
     }
 }
@@ -0,0 +1,153 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.model.ReadOnlyTaskBook;
+
+/**
+ * Saves task books on a background thread, coalescing save requests that arrive close together.
+ * A request takes an immutable snapshot of the task book and schedules a write at most
+ * {@code maxStalenessMillis} later. Requests made before that write runs only replace the pending snapshot,
+ * so a burst of changes results in a single write of the latest state.
+ */
+class BackgroundTaskBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTaskBookSaver.class);
+
+    private final TaskBookStorage taskBookStorage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskBook background saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<IOException> failureHandler = ioe -> {};
+
+    // Guarded by this
+    private ReadOnlyTaskBook pendingSnapshot;
+    private int queueDepth;
+    private boolean isWriteScheduled;
+    private IOException lastFailure;
+    private Long lastWriteLatencyMillis;
+
+    /**
+     * Creates a {@code BackgroundTaskBookSaver} that writes to {@code taskBookStorage}, leaving saved changes
+     * unwritten for at most {@code maxStalenessMillis}.
+     */
+    public BackgroundTaskBookSaver(TaskBookStorage taskBookStorage, long maxStalenessMillis) {
+        requireNonNull(taskBookStorage);
+        this.taskBookStorage = taskBookStorage;
+        this.maxStalenessMillis = Math.max(0, maxStalenessMillis);
+    }
+
+    /**
+     * Sets the handler notified, on the background thread, whenever a background write fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules a snapshot of {@code taskBook} to be written.
+     * Must be called from the thread that modifies {@code taskBook}.
+     */
+    public synchronized void save(ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        pendingSnapshot = TaskBookSnapshot.of(taskBook);
+        queueDepth++;
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePending, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and blocks until it has been written.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the task book", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of save requests waiting to be written.
+     */
+    public synchronized int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns how long the latest write took, in milliseconds, or empty if nothing has been written yet.
+     */
+    public synchronized Optional<Long> getLastWriteLatencyMillis() {
+        return Optional.ofNullable(lastWriteLatencyMillis);
+    }
+
+    private void writePending() {
+        ReadOnlyTaskBook snapshot;
+        int coalescedCount;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            coalescedCount = queueDepth;
+            pendingSnapshot = null;
+            queueDepth = 0;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        IOException failure = null;
+        try {
+            taskBookStorage.saveTaskBook(snapshot);
+        } catch (IOException ioe) {
+            failure = ioe;
+        }
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        synchronized (this) {
+            lastFailure = failure;
+            lastWriteLatencyMillis = latencyMillis;
+            if (failure != null && pendingSnapshot == null) {
+                // Keep the failed snapshot so that the next request or flush retries it.
+                pendingSnapshot = snapshot;
+                queueDepth += coalescedCount;
+            }
+        }
+
+        if (failure != null) {
+            logger.warning("Background save of the task book failed: " + failure);
+            failureHandler.accept(failure);
+            return;
+        }
+        logger.fine(String.format("Saved task book in %d ms, coalescing %d save requests",
+                latencyMillis, coalescedCount));
+    }
+}
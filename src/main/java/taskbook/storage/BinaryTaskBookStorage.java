@@ -0,0 +1,357 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.Event;
+import taskbook.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header holding a magic number, the schema version, the length of the payload and a CRC32
+ * checksum of the payload. The payload holds a table of every distinct string in the task book, followed by the
+ * persons and the tasks, which refer to their strings by index into that table. Dates are stored as epoch days
+ * and the type of each task as a single byte.
+ *
+ * Since schema version 2, the strings, the persons and the tasks are each preceded by a table of their offsets
+ * into the payload, so that any record can be read without reading the ones before it.
+ *
+ * Saves replace the file atomically and keep the file they replace as a backup, which is read instead
+ * if the file is missing or unreadable.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    public static final int MAGIC = 0x54424B42; // "TBKB"
+    public static final int SCHEMA_VERSION = 2;
+    public static final int HEADER_LENGTH = 20;
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary task book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary task book schema version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary task book is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * Falls back to the backup of {@code filePath} if the file is missing or not a valid binary task book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its backup is a valid binary task book.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        return readFallingBackToBackup(filePath, BinaryTaskBookStorage::read);
+    }
+
+    /**
+     * Reads {@code filePath} with {@code reader}, or its backup if the file is missing or not a valid binary
+     * task book.
+     */
+    private static Optional<ReadOnlyTaskBook> readFallingBackToBackup(Path filePath, FileReader reader)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            if (!Files.exists(backupFilePath)) {
+                return Optional.empty();
+            }
+            logger.warning("Reading the previous generation from " + backupFilePath);
+            return Optional.of(reader.read(backupFilePath));
+        }
+
+        try {
+            return Optional.of(reader.read(filePath));
+        } catch (DataConversionException dce) {
+            if (!Files.exists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Reading the previous generation from " + backupFilePath);
+            try {
+                return Optional.of(reader.read(backupFilePath));
+            } catch (DataConversionException backupDce) {
+                throw dce;
+            }
+        }
+    }
+
+    private static ReadOnlyTaskBook read(Path filePath) throws DataConversionException, IOException {
+        try {
+            return decode(Files.readAllBytes(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        byte[] bytes = encode(taskBook.getPersonList(), taskBook.getTaskList());
+        FileUtil.writeAtomicallyKeepingBackup(filePath, temp -> Files.write(temp, bytes));
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory and returns a read-only view of it.
+     * Persons and tasks are decoded from the mapped file only when they are accessed, so opening the file
+     * takes the same heap whatever its size. The checksum is verified as the file is opened, by streaming through
+     * the mapping once, and each record is validated by the model when it is decoded.
+     *
+     * The view is meant for tools that stream through a task book once, such as {@link TaskBookConverter}.
+     * The app itself still starts from {@link #readTaskBook(Path)}, since its model copies every record into an
+     * editable task book and its filtered lists test every record anyway.
+     *
+     * Like {@link #readTaskBook(Path)}, falls back to the backup of {@code filePath} if the file is missing or
+     * not a valid binary task book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its backup is a valid binary task book.
+     */
+    public Optional<ReadOnlyTaskBook> readTaskBookMapped(Path filePath) throws DataConversionException, IOException {
+        return readFallingBackToBackup(filePath, BinaryTaskBookStorage::map);
+    }
+
+    private static ReadOnlyTaskBook map(Path filePath) throws DataConversionException, IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            int version = readHeader(mapped);
+            ByteBuffer payload = payloadOf(mapped);
+            CRC32 checksum = new CRC32();
+            checksum.update(payload.duplicate());
+            if (checksum.getValue() != mapped.getLong(12)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return new BinaryTaskBookView(payload, version);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IndexOutOfBoundsException e) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED, e));
+        }
+    }
+
+    /**
+     * Encodes {@code persons} and {@code tasks} into the bytes of a binary task book file.
+     */
+    static byte[] encode(List<Person> persons, List<Task> tasks) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+
+        ByteArrayOutputStream personRecords = new ByteArrayOutputStream();
+        DataOutputStream personOut = new DataOutputStream(personRecords);
+        int[] personOffsets = new int[persons.size()];
+        for (int i = 0; i < personOffsets.length; i++) {
+            Person person = persons.get(i);
+            personOffsets[i] = personOut.size();
+            personOut.writeInt(intern(strings, person.getName().fullName));
+            personOut.writeInt(intern(strings, person.getPhone().value));
+            personOut.writeInt(intern(strings, person.getEmail().value));
+            personOut.writeInt(intern(strings, person.getAddress().value));
+            writeTags(personOut, strings, person.getTags());
+        }
+
+        ByteArrayOutputStream taskRecords = new ByteArrayOutputStream();
+        DataOutputStream taskOut = new DataOutputStream(taskRecords);
+        int[] taskOffsets = new int[tasks.size()];
+        for (int i = 0; i < taskOffsets.length; i++) {
+            Task task = tasks.get(i);
+            taskOffsets[i] = taskOut.size();
+            taskOut.writeByte(typeOf(task));
+            taskOut.writeInt(intern(strings, task.getName().fullName));
+            taskOut.writeByte(task.getAssignment().ordinal());
+            taskOut.writeInt(intern(strings, task.getDescription().description));
+            taskOut.writeBoolean(task.isDone());
+            if (task.hasDate()) {
+                taskOut.writeInt((int) task.getDate().toEpochDay());
+            }
+            writeTags(taskOut, strings, task.getTags());
+        }
+
+        ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+        DataOutputStream stringOut = new DataOutputStream(stringData);
+        int[] stringOffsets = new int[strings.size()];
+        int i = 0;
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            stringOffsets[i++] = stringOut.size();
+            stringOut.writeInt(bytes.length);
+            stringOut.write(bytes);
+        }
+
+        // Offsets are stored relative to the start of the payload.
+        int stringDataStart = 4 + 4 * stringOffsets.length;
+        int personRecordsStart = stringDataStart + stringData.size() + 4 + 4 * personOffsets.length;
+        int taskRecordsStart = personRecordsStart + personRecords.size() + 4 + 4 * taskOffsets.length;
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(taskRecordsStart + taskRecords.size());
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+        writeOffsetTable(payloadOut, stringOffsets, stringDataStart);
+        stringData.writeTo(payloadOut);
+        writeOffsetTable(payloadOut, personOffsets, personRecordsStart);
+        personRecords.writeTo(payloadOut);
+        writeOffsetTable(payloadOut, taskOffsets, taskRecordsStart);
+        taskRecords.writeTo(payloadOut);
+        payloadOut.flush();
+
+        byte[] payloadBytes = payload.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(payloadBytes);
+
+        return ByteBuffer.allocate(HEADER_LENGTH + payloadBytes.length)
+                .putInt(MAGIC)
+                .putInt(SCHEMA_VERSION)
+                .putInt(payloadBytes.length)
+                .putLong(checksum.getValue())
+                .put(payloadBytes)
+                .array();
+    }
+
+    /**
+     * Decodes the bytes of a binary task book file into the model's {@code TaskBook}.
+     *
+     * @throws IllegalValueException if the bytes are not a valid binary task book.
+     */
+    static ReadOnlyTaskBook decode(byte[] bytes) throws IllegalValueException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int version = readHeader(buffer);
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        if (checksum.getValue() != buffer.getLong(12)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        List<Person> persons;
+        List<Task> tasks;
+        try {
+            BinaryTaskBookView view = new BinaryTaskBookView(payloadOf(buffer), version);
+            persons = new ArrayList<>(view.getPersonList());
+            tasks = new ArrayList<>(view.getTaskList());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        } catch (IndexOutOfBoundsException e) {
+            // the checksum matched, so the payload was written by a faulty writer
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+        return JsonSerializableTaskBook.buildTaskBook(persons, tasks);
+    }
+
+    /**
+     * Checks the header at the start of {@code buffer} and returns the schema version of the file.
+     *
+     * @throws IllegalValueException if the header does not describe a supported binary task book.
+     */
+    private static int readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.limit() < HEADER_LENGTH || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = buffer.getInt(4);
+        if (version < 1 || version > SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (buffer.getInt(8) != buffer.limit() - HEADER_LENGTH) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return version;
+    }
+
+    private static ByteBuffer payloadOf(ByteBuffer buffer) {
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(HEADER_LENGTH);
+        return payload.slice();
+    }
+
+    private static void writeOffsetTable(DataOutputStream out, int[] offsets, int base) throws IOException {
+        out.writeInt(offsets.length);
+        for (int offset : offsets) {
+            out.writeInt(base + offset);
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String string) {
+        return strings.computeIfAbsent(string, unused -> strings.size());
+    }
+
+    private static byte typeOf(Task task) {
+        if (task instanceof Event) {
+            return BinaryTaskBookView.EVENT;
+        } else if (task instanceof Deadline) {
+            return BinaryTaskBookView.DEADLINE;
+        }
+        return BinaryTaskBookView.TODO;
+    }
+
+    private static void writeTags(DataOutputStream out, Map<String, Integer> strings, Set<Tag> tags)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(intern(strings, tag.tagName));
+        }
+    }
+
+    /**
+     * Reads a task book from a binary file.
+     */
+    @FunctionalInterface
+    private interface FileReader {
+        ReadOnlyTaskBook read(Path filePath) throws DataConversionException, IOException;
+    }
+}
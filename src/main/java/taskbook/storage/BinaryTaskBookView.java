@@ -0,0 +1,230 @@
+package taskbook.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.Description;
+import taskbook.model.task.Event;
+import taskbook.model.task.Task;
+import taskbook.model.task.Todo;
+import taskbook.model.task.enums.Assignment;
+
+/**
+ * A read-only view of the payload of a binary task book.
+ * Persons and tasks are decoded from the payload only when they are accessed. Only the most recently accessed
+ * {@value #DECODE_CACHE_SIZE} of each are kept afterwards, so the view holds no more than the offsets of the records
+ * and a bounded number of decoded records no matter how large the payload is.
+ *
+ * Records are validated by the model's constructors as they are decoded, which throw
+ * {@code IllegalArgumentException} for invalid values. Reading past the end of a malformed payload throws
+ * {@code IndexOutOfBoundsException}.
+ */
+class BinaryTaskBookView implements ReadOnlyTaskBook {
+
+    static final byte TODO = 0;
+    static final byte EVENT = 1;
+    static final byte DEADLINE = 2;
+    static final int DECODE_CACHE_SIZE = 1024;
+
+    private final ByteBuffer payload;
+    private final IntBuffer stringOffsets;
+    private final IntBuffer personOffsets;
+    private final IntBuffer taskOffsets;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Task> tasks;
+
+    /**
+     * Creates a view of {@code payload}, laid out as described by {@code schemaVersion}.
+     * Only absolute reads are made on {@code payload}, so its position is left untouched.
+     */
+    BinaryTaskBookView(ByteBuffer payload, int schemaVersion) {
+        this.payload = payload;
+        if (schemaVersion == 1) {
+            // Version 1 payloads carry no offset tables, so the offsets are found by walking the records once.
+            int[][] offsets = scanOffsets();
+            stringOffsets = IntBuffer.wrap(offsets[0]);
+            personOffsets = IntBuffer.wrap(offsets[1]);
+            taskOffsets = IntBuffer.wrap(offsets[2]);
+        } else {
+            stringOffsets = offsetTable(0);
+            int stringCount = stringOffsets.limit();
+            int personTableStart = stringCount == 0
+                    ? 4
+                    : endOfString(stringOffsets.get(stringCount - 1));
+            personOffsets = offsetTable(personTableStart);
+            int taskTableStart = personOffsets.limit() == 0
+                    ? personTableStart + 4
+                    : endOfPerson(personOffsets.get(personOffsets.limit() - 1));
+            taskOffsets = offsetTable(taskTableStart);
+        }
+
+        persons = FXCollections.observableList(
+                new DecodedList<>(personOffsets.limit(), index -> decodePerson(personOffsets.get(index))));
+        tasks = FXCollections.observableList(
+                new DecodedList<>(taskOffsets.limit(), index -> decodeTask(taskOffsets.get(index))));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    /**
+     * Returns the table of record offsets made of a count followed by that many offsets at {@code tableStart}.
+     */
+    private IntBuffer offsetTable(int tableStart) {
+        int count = payload.getInt(tableStart);
+        ByteBuffer table = payload.duplicate();
+        table.position(tableStart + 4);
+        table.limit(tableStart + 4 + 4 * count);
+        return table.slice().asIntBuffer();
+    }
+
+    private int[][] scanOffsets() {
+        int position = 0;
+        int[] strings = new int[payload.getInt(position)];
+        position += 4;
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = position;
+            position = endOfString(position);
+        }
+        int[] personRecords = new int[payload.getInt(position)];
+        position += 4;
+        for (int i = 0; i < personRecords.length; i++) {
+            personRecords[i] = position;
+            position = endOfPerson(position);
+        }
+        int[] taskRecords = new int[payload.getInt(position)];
+        position += 4;
+        for (int i = 0; i < taskRecords.length; i++) {
+            taskRecords[i] = position;
+            position = endOfTask(position);
+        }
+        return new int[][] {strings, personRecords, taskRecords};
+    }
+
+    private int endOfString(int offset) {
+        return offset + 4 + payload.getInt(offset);
+    }
+
+    private int endOfPerson(int offset) {
+        return endOfTags(offset + 16);
+    }
+
+    private int endOfTask(int offset) {
+        int datesLength = payload.get(offset) == TODO ? 0 : 4;
+        return endOfTags(offset + 11 + datesLength);
+    }
+
+    private int endOfTags(int offset) {
+        return offset + 4 + 4 * payload.getInt(offset);
+    }
+
+    private String getString(int index) {
+        int offset = stringOffsets.get(index);
+        byte[] bytes = new byte[payload.getInt(offset)];
+        ByteBuffer string = payload.duplicate();
+        string.position(offset + 4);
+        string.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Person decodePerson(int offset) {
+        Name name = new Name(getString(payload.getInt(offset)));
+        Phone phone = new Phone(getString(payload.getInt(offset + 4)));
+        Email email = new Email(getString(payload.getInt(offset + 8)));
+        Address address = new Address(getString(payload.getInt(offset + 12)));
+        return new Person(name, phone, email, address, decodeTags(offset + 16));
+    }
+
+    private Task decodeTask(int offset) {
+        byte type = payload.get(offset);
+        Name name = new Name(getString(payload.getInt(offset + 1)));
+        int assignmentOrdinal = payload.get(offset + 5);
+        if (assignmentOrdinal < 0 || assignmentOrdinal >= Assignment.values().length) {
+            throw new IllegalArgumentException(Assignment.MESSAGE_CONSTRAINTS);
+        }
+        Assignment assignment = Assignment.values()[assignmentOrdinal];
+        Description description = new Description(getString(payload.getInt(offset + 6)));
+        boolean isDone = payload.get(offset + 10) != 0;
+
+        switch (type) {
+        case TODO:
+            return new Todo(name, assignment, description, isDone, decodeTags(offset + 11));
+        case EVENT:
+            LocalDate eventDate = LocalDate.ofEpochDay(payload.getInt(offset + 11));
+            return new Event(name, assignment, description, isDone, eventDate, decodeTags(offset + 15));
+        case DEADLINE:
+            LocalDate deadlineDate = LocalDate.ofEpochDay(payload.getInt(offset + 11));
+            return new Deadline(name, assignment, description, isDone, deadlineDate, decodeTags(offset + 15));
+        default:
+            throw new IllegalArgumentException(BinaryTaskBookStorage.MESSAGE_CORRUPTED);
+        }
+    }
+
+    private Set<Tag> decodeTags(int offset) {
+        int tagCount = payload.getInt(offset);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(getString(payload.getInt(offset + 4 + 4 * i))));
+        }
+        return tags;
+    }
+
+    /**
+     * A list of records decoded on access, keeping the most recently accessed {@value #DECODE_CACHE_SIZE} records.
+     */
+    private static class DecodedList<T> extends AbstractList<T> {
+        private final int size;
+        private final IntFunction<T> decoder;
+        private final Map<Integer, T> decoded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > DECODE_CACHE_SIZE;
+            }
+        };
+
+        DecodedList(int size, IntFunction<T> decoder) {
+            this.size = size;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            synchronized (decoded) {
+                return decoded.computeIfAbsent(index, decoder::apply);
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
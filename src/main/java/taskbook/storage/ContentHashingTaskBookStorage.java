@@ -0,0 +1,186 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that skips saving a task book whose content is the same as that of the task book
+ * it last saved to the same file.
+ *
+ * The content is compared by a hash rolled over the hashes of the json form of each person and task in order.
+ * Persons and tasks are immutable, so the hash of a record carried over unchanged from the previous save is reused
+ * instead of serializing the record again.
+ *
+ * The content last saved is forgotten whenever the file is read or reported to have been changed by something else,
+ * since the file may then hold another task book even though this storage did not write to it.
+ */
+class ContentHashingTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ContentHashingTaskBookStorage.class);
+
+    private final TaskBookStorage storage;
+
+    // Guarded by this
+    private Path lastSavedPath;
+    private long lastSavedHash;
+    private Map<Object, Long> lastRecordHashes = new IdentityHashMap<>();
+    private long skippedWriteCount;
+    private long performedWriteCount;
+
+    /**
+     * Creates a {@code ContentHashingTaskBookStorage} that reads and saves through {@code storage}.
+     */
+    ContentHashingTaskBookStorage(TaskBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return storage.getDataFilePaths();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     * The task book last saved is forgotten, as the file read may hold another task book by now.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        forgetLastSave();
+        return storage.readTaskBook(filePath);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Does not write anything if {@code taskBook} has the same content as the task book last saved to
+     * {@code filePath} and that file still exists.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        Map<Object, Long> recordHashes = new IdentityHashMap<>();
+        long hash = hash(taskBook, recordHashes);
+        if (filePath.equals(lastSavedPath) && hash == lastSavedHash && Files.exists(filePath)) {
+            skippedWriteCount++;
+            logger.fine("Skipped saving unchanged task book to " + filePath);
+            return;
+        }
+
+        lastSavedPath = null;
+        storage.saveTaskBook(taskBook, filePath);
+        performedWriteCount++;
+        lastSavedPath = filePath;
+        lastSavedHash = hash;
+        lastRecordHashes = recordHashes;
+    }
+
+    /**
+     * Forgets the task book last saved, so that the next save is written whatever its content.
+     * Called when the file may have been changed by something other than this storage.
+     */
+    synchronized void forgetLastSave() {
+        lastSavedPath = null;
+    }
+
+    /**
+     * Returns the number of saves skipped because the content was unchanged.
+     */
+    synchronized long getSkippedWriteCount() {
+        return skippedWriteCount;
+    }
+
+    /**
+     * Returns the number of saves written to storage.
+     */
+    synchronized long getPerformedWriteCount() {
+        return performedWriteCount;
+    }
+
+    /**
+     * Returns the content hash of {@code taskBook}, putting the hash of each of its records in {@code recordHashes}.
+     */
+    private long hash(ReadOnlyTaskBook taskBook, Map<Object, Long> recordHashes) throws IOException {
+        RollingHash rollingHash = new RollingHash();
+        for (Person person : taskBook.getPersonList()) {
+            rollingHash.roll(hashRecord(person, recordHashes));
+        }
+        // separates the persons from the tasks, so that moving records between them changes the hash
+        rollingHash.roll(-1);
+        for (Task task : taskBook.getTaskList()) {
+            rollingHash.roll(hashRecord(task, recordHashes));
+        }
+        return rollingHash.getValue();
+    }
+
+    private long hashRecord(Object record, Map<Object, Long> recordHashes) throws IOException {
+        Long recordHash = lastRecordHashes.get(record);
+        if (recordHash == null) {
+            Object adapted = record instanceof Person
+                    ? new JsonAdaptedPerson((Person) record)
+                    : JsonAdaptedTask.fromModelType((Task) record);
+            RollingHash json = new RollingHash();
+            json.roll((adapted.getClass().getName() + JsonUtil.toCompactJsonString(adapted))
+                    .getBytes(StandardCharsets.UTF_8));
+            recordHash = json.getValue();
+        }
+        recordHashes.put(record, recordHash);
+        return recordHash;
+    }
+
+    /**
+     * A 64-bit hash made of a CRC32C and a CRC32 of the same bytes.
+     */
+    private static class RollingHash {
+        private final CRC32C crc32c = new CRC32C();
+        private final CRC32 crc32 = new CRC32();
+
+        void roll(byte[] bytes) {
+            crc32c.update(bytes);
+            crc32.update(bytes);
+        }
+
+        void roll(long value) {
+            roll(ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+        }
+
+        long getValue() {
+            return crc32c.getValue() << 32 | crc32.getValue();
+        }
+    }
+}
@@ -0,0 +1,609 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.person.exceptions.DuplicatePersonException;
+import taskbook.model.task.Task;
+import taskbook.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A class to access TaskBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Each save appends only the records that changed since the previous save to the journal next to the snapshot.
+ * Once the journal grows past the compaction threshold, it is folded into a fresh snapshot in the background.
+ *
+ * Every snapshot carries the journal generation it was folded up to, and every journal record carries the
+ * generation it was written in, so records that are already part of the snapshot are skipped when reading.
+ * Snapshots named with the gzip extension are saved gzip-compressed; the journal is always plain text.
+ *
+ * Each snapshot replaces the previous one atomically and keeps it as a backup, along with the journals since it,
+ * so that the task book can still be read from the previous generation if the snapshot turns out to be unreadable.
+ *
+ * The snapshot alone is therefore not the whole task book until the journal is folded into it. The journal
+ * records are splices of the lists at given positions, so they only apply to the snapshot they were written
+ * after: a snapshot whose checksum no longer matches its content has been edited by hand, and is read as it is,
+ * without the journal. The next save then replaces the snapshot and its journal entirely.
+ */
+public class JournaledTaskBookStorage implements TaskBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024; // 1MB
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String GENERATION_FIELD = "generation";
+    private static final int TAIL_SCAN_BLOCK_SIZE = 8192;
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskBook journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<?> pendingCompaction;
+    private long generation;
+    /** The generation of the snapshot on disk, or 0 if it is not known. Written by the compactor too. */
+    private volatile long snapshotGeneration;
+    private List<Person> lastSavedPersons;
+    private List<Task> lastSavedTasks;
+
+    /**
+     * Creates a {@code JournaledTaskBookStorage} with the given {@code filePath} and {@code compactionThreshold},
+     * the size of the journal in bytes above which it is folded into the snapshot.
+     */
+    public JournaledTaskBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public JournaledTaskBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the snapshot and its journal. Journals moved aside for compaction are left out, as compacting them
+     * into the snapshot does not change the task book.
+     */
+    @Override
+    public List<Path> getDataFilePaths() {
+        return List.of(filePath, getJournalPath(filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     * Replays the journal of {@code filePath} on top of its snapshot.
+     * Falls back to the previous generation of the snapshot, replaying the journals kept since it, if the snapshot
+     * is missing or not in the correct format.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if neither the snapshot nor its previous generation can be read with the
+     *     journal.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        boolean hasSnapshot = Files.exists(filePath);
+        boolean hasBackup = Files.exists(backupFilePath);
+        List<Path> journals = getJournalFiles(filePath);
+        if (!hasSnapshot && !hasBackup && journals.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Replay replay = null;
+        DataConversionException snapshotError = null;
+        if (hasSnapshot || !hasBackup) {
+            try {
+                replay = replay(hasSnapshot ? filePath : null, journals);
+            } catch (DataConversionException dce) {
+                if (!hasBackup) {
+                    throw dce;
+                }
+                snapshotError = dce;
+            }
+        }
+        boolean isFallback = replay == null;
+        if (isFallback) {
+            logger.warning("Reading the previous generation from " + backupFilePath + " and the journal after it");
+            try {
+                replay = replay(backupFilePath, journals);
+            } catch (DataConversionException backupDce) {
+                throw snapshotError == null ? backupDce : snapshotError;
+            }
+        }
+
+        if (filePath.equals(this.filePath) && (isFallback || replay.isSnapshotEdited)) {
+            // The next save replaces the unreadable or edited snapshot entirely, after every generation on disk.
+            generation = replay.highestGeneration;
+            snapshotGeneration = 0;
+            lastSavedPersons = null;
+            lastSavedTasks = null;
+        } else if (filePath.equals(this.filePath)) {
+            generation = replay.replayedGeneration;
+            snapshotGeneration = replay.snapshotGeneration;
+            rememberSaved(replay.taskBook);
+        }
+        return Optional.of(replay.taskBook);
+    }
+
+    /**
+     * Reads {@code snapshot}, or starts from an empty task book if it is null, and replays {@code journals} onto it.
+     * Records that are already part of the snapshot are skipped, and so are records of a later chain of
+     * generations, which a full snapshot starts after a gap of one generation. If the snapshot was edited since it
+     * was written, every record is skipped.
+     */
+    private static Replay replay(Path snapshot, List<Path> journals) throws DataConversionException, IOException {
+        Replay replay = new Replay();
+        try {
+            TaskBook snapshotBook = new TaskBook();
+            if (snapshot != null) {
+                JsonTaskBookReader reader = new JsonTaskBookReader(snapshot);
+                snapshotBook = reader.read();
+                replay.snapshotGeneration = Long.parseLong(reader.getOtherField(GENERATION_FIELD).orElse("0"));
+                replay.isSnapshotEdited = !reader.isUnchanged();
+            }
+            replay.replayedGeneration = replay.snapshotGeneration;
+            replay.highestGeneration = replay.snapshotGeneration;
+            List<Person> persons = new ArrayList<>(snapshotBook.getPersonList());
+            List<Task> tasks = new ArrayList<>(snapshotBook.getTaskList());
+            int skippedCount = 0;
+
+            for (Path journal : journals) {
+                for (JsonAdaptedJournalRecord record : readJournal(journal)) {
+                    replay.highestGeneration = Math.max(replay.highestGeneration, record.getGeneration());
+                    if (replay.isSnapshotEdited) {
+                        skippedCount++;
+                        continue; // written for the snapshot as it was before it was edited
+                    } else if (record.getGeneration() < replay.snapshotGeneration) {
+                        continue; // already folded into the snapshot
+                    } else if (record.getGeneration() > replay.replayedGeneration + 1) {
+                        continue; // written after a full snapshot that replaced this one
+                    }
+                    record.applyTo(persons, tasks);
+                    replay.replayedGeneration = Math.max(replay.replayedGeneration, record.getGeneration());
+                }
+            }
+
+            if (skippedCount > 0) {
+                logger.warning(snapshot + " was edited since it was written, so the " + skippedCount
+                        + " journal records written for it are not replayed");
+            }
+
+            replay.taskBook.setPersons(persons);
+            replay.taskBook.setTasks(tasks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + snapshot + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (NumberFormatException | JsonProcessingException e) {
+            logger.warning("Error reading from snapshot file " + snapshot + ": " + e);
+            throw new DataConversionException(e);
+        } catch (DuplicatePersonException | DuplicateTaskException e) {
+            logger.info("Duplicate entries found while replaying the journal onto " + snapshot);
+            throw new DataConversionException(e);
+        }
+        return replay;
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only saves to the storage file path are journaled; saves elsewhere write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, taskBook.getPersonList(), taskBook.getTaskList(), 0);
+            return;
+        }
+
+        if (lastSavedPersons == null) {
+            // Nothing is known about the data on disk, so replace it entirely.
+            saveFullSnapshot(taskBook);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        appendRecord(records, diff(lastSavedPersons, taskBook.getPersonList(), JsonAdaptedJournalRecord::ofPersons));
+        appendRecord(records, diff(lastSavedTasks, taskBook.getTaskList(), JsonAdaptedJournalRecord::ofTasks));
+        if (records.length() == 0) {
+            return;
+        }
+
+        Path journal = getJournalPath(filePath);
+        FileUtil.createParentDirsOfFile(journal);
+        repairTornTail(journal);
+        FileUtil.appendToFile(journal, records.toString());
+        rememberSaved(taskBook);
+
+        if (Files.size(journal) > compactionThreshold) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Blocks until the background compaction that is in progress, if any, has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        Future<?> compaction;
+        synchronized (this) {
+            compaction = pendingCompaction;
+        }
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    private void rememberSaved(ReadOnlyTaskBook taskBook) {
+        // Fresh copies are never mutated afterwards, so they can be handed to the compactor as they are.
+        lastSavedPersons = new ArrayList<>(taskBook.getPersonList());
+        lastSavedTasks = new ArrayList<>(taskBook.getTaskList());
+    }
+
+    private void appendRecord(StringBuilder records, Optional<JsonAdaptedJournalRecord> record) throws IOException {
+        if (record.isPresent()) {
+            records.append(JsonUtil.toCompactJsonString(record.get())).append('\n');
+        }
+    }
+
+    /**
+     * Returns the record that turns {@code saved} into {@code current}, if they differ.
+     * The record spans from the first to the last differing entry, so a single add, edit or delete
+     * produces a record holding at most one entry.
+     */
+    private <T> Optional<JsonAdaptedJournalRecord> diff(List<T> saved, List<T> current, RecordFactory<T> factory) {
+        int commonLength = Math.min(saved.size(), current.size());
+        int prefix = 0;
+        while (prefix < commonLength && saved.get(prefix).equals(current.get(prefix))) {
+            prefix++;
+        }
+        if (prefix == saved.size() && prefix == current.size()) {
+            return Optional.empty();
+        }
+
+        int suffix = 0;
+        while (suffix < commonLength - prefix
+                && saved.get(saved.size() - 1 - suffix).equals(current.get(current.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removedCount = saved.size() - prefix - suffix;
+        List<T> inserted = current.subList(prefix, current.size() - suffix);
+        return Optional.of(factory.create(generation, prefix, removedCount, inserted));
+    }
+
+    /**
+     * Moves the journal aside and folds it into a fresh snapshot on the compactor thread.
+     * Does nothing if a previous compaction is still running.
+     */
+    private void startCompaction() throws IOException {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+
+        Path journal = getJournalPath(filePath);
+        Files.move(journal, getJournalPath(filePath, generation), StandardCopyOption.ATOMIC_MOVE);
+        generation++;
+
+        List<Person> persons = lastSavedPersons;
+        List<Task> tasks = lastSavedTasks;
+        long newSnapshotGeneration = generation;
+        long previousSnapshotGeneration = snapshotGeneration;
+        pendingCompaction = compactor.submit(() ->
+                compact(persons, tasks, newSnapshotGeneration, previousSnapshotGeneration));
+    }
+
+    /**
+     * Writes a snapshot of generation {@code newSnapshotGeneration}, keeping the one it replaces as the previous
+     * generation, and deletes the journals that neither of them needs.
+     */
+    private void compact(List<Person> persons, List<Task> tasks, long newSnapshotGeneration,
+            long previousSnapshotGeneration) {
+        try {
+            writeSnapshot(filePath, persons, tasks, newSnapshotGeneration);
+            snapshotGeneration = newSnapshotGeneration;
+            deleteJournalsBefore(previousSnapshotGeneration);
+            logger.fine("Compacted journal of " + filePath + " into generation " + newSnapshotGeneration);
+        } catch (IOException ioe) {
+            // The journal files are kept, so no data is lost; the next compaction will try again.
+            logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the whole task book, keeping the one it replaces as the previous generation.
+     * The new snapshot skips a generation, so that replaying the journal onto the previous generation stops
+     * before the records written after the new snapshot.
+     */
+    private void saveFullSnapshot(ReadOnlyTaskBook taskBook) throws IOException {
+        awaitPendingCompactionQuietly();
+
+        long newGeneration = generation;
+        for (Path journal : getJournalFiles(filePath)) {
+            newGeneration = Math.max(newGeneration, readJournalGeneration(journal));
+        }
+        newGeneration += 2;
+
+        long previousSnapshotGeneration = snapshotGeneration;
+        writeSnapshot(filePath, taskBook.getPersonList(), taskBook.getTaskList(), newGeneration);
+        snapshotGeneration = newGeneration;
+        deleteJournalsBefore(previousSnapshotGeneration);
+
+        generation = newGeneration;
+        rememberSaved(taskBook);
+    }
+
+    /**
+     * Deletes the rotated journals of generations before {@code oldestKeptGeneration}, which the snapshot and its
+     * previous generation already hold.
+     */
+    private void deleteJournalsBefore(long oldestKeptGeneration) throws IOException {
+        for (Path journal : getJournalFiles(filePath)) {
+            Optional<Long> journalGeneration = getJournalGeneration(filePath, journal);
+            if (journalGeneration.isPresent() && journalGeneration.get() < oldestKeptGeneration) {
+                Files.deleteIfExists(journal);
+            }
+        }
+    }
+
+    private void awaitPendingCompactionQuietly() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes a snapshot atomically over {@code target}, so that readers never observe a partially written snapshot.
+     * The snapshot it replaces is kept as the previous generation.
+     */
+    private static void writeSnapshot(Path target, List<Person> persons, List<Task> tasks, long generation)
+            throws IOException {
+        JsonTaskBookWriter writer = new JsonTaskBookWriter(false, FileUtil.isCompressedPath(target));
+        FileUtil.writeAtomicallyKeepingBackup(target,
+                temp -> writer.write(temp, persons, tasks, Collections.singletonMap(GENERATION_FIELD, generation)));
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getJournalPath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + "." + generation);
+    }
+
+    /**
+     * Returns the generation encoded in the name of a rotated journal, or empty for the active journal.
+     */
+    private static Optional<Long> getJournalGeneration(Path filePath, Path journal) {
+        String prefix = getJournalPath(filePath).getFileName() + ".";
+        String name = journal.getFileName().toString();
+        if (!name.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(name.substring(prefix.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the existing journal files of {@code filePath} in the order they must be replayed:
+     * the rotated journals by ascending generation, then the active journal.
+     */
+    private static List<Path> getJournalFiles(Path filePath) throws IOException {
+        TreeMap<Long, Path> rotated = new TreeMap<>();
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (directory != null && Files.isDirectory(directory)) {
+            String glob = filePath.getFileName() + JOURNAL_SUFFIX + ".*";
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+                for (Path journal : stream) {
+                    getJournalGeneration(filePath, journal)
+                            .ifPresent(journalGeneration -> rotated.put(journalGeneration,
+                                    filePath.resolveSibling(journal.getFileName())));
+                }
+            }
+        }
+
+        List<Path> journals = new ArrayList<>(rotated.values());
+        Path active = getJournalPath(filePath);
+        if (Files.exists(active)) {
+            journals.add(active);
+        }
+        return journals;
+    }
+
+    /**
+     * Returns the records in {@code journal}.
+     * An unreadable last line is the remains of an append cut short by a crash, so it is skipped with a warning;
+     * the save it belonged to never completed.
+     */
+    private static List<JsonAdaptedJournalRecord> readJournal(Path journal) throws DataConversionException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            JsonProcessingException tornRecord = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (tornRecord != null) {
+                    throw tornRecord;
+                }
+                try {
+                    records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+                } catch (JsonProcessingException e) {
+                    tornRecord = e;
+                }
+            }
+            if (tornRecord != null) {
+                logger.warning("Skipping incomplete last record of journal file " + journal + ": " + tornRecord);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return records;
+    }
+
+    /**
+     * Makes sure that the next record appended to {@code journal} starts on a line of its own.
+     * A last line without a line break is the remains of an append cut short by a crash. It is ended if it holds
+     * a whole record, which {@link #readJournal(Path)} replays, and cut off otherwise, as that record is skipped.
+     */
+    private static void repairTornTail(Path journal) throws IOException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long lineStart = findLastLineStart(channel);
+            if (lineStart == size) {
+                return;
+            }
+
+            ByteBuffer tail = ByteBuffer.allocate((int) (size - lineStart));
+            readFully(channel, tail, lineStart);
+            if (isRecord(new String(tail.array(), StandardCharsets.UTF_8))) {
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}), size);
+            } else {
+                logger.warning("Cutting off incomplete last record of journal file " + journal);
+                channel.truncate(lineStart);
+            }
+        }
+    }
+
+    /**
+     * Returns the position just after the last line break in {@code channel}, or 0 if there is none.
+     */
+    private static long findLastLineStart(FileChannel channel) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(TAIL_SCAN_BLOCK_SIZE);
+        long blockEnd = channel.size();
+        while (blockEnd > 0) {
+            long blockStart = Math.max(0, blockEnd - TAIL_SCAN_BLOCK_SIZE);
+            block.clear();
+            block.limit((int) (blockEnd - blockStart));
+            readFully(channel, block, blockStart);
+            for (int i = block.limit() - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return 0;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+            }
+        }
+    }
+
+    private static boolean isRecord(String line) {
+        if (line.isBlank()) {
+            return true;
+        }
+        try {
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the generation of the first record in {@code journal}, or 0 if it cannot be determined.
+     * All records of a journal file share the same generation.
+     */
+    private static long readJournalGeneration(Path journal) {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return line == null ? 0 : JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).getGeneration();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * A task book read from a snapshot with the journal records replayed onto it.
+     */
+    private static class Replay {
+        private final TaskBook taskBook = new TaskBook();
+        private long snapshotGeneration;
+        private long replayedGeneration;
+        private long highestGeneration;
+        private boolean isSnapshotEdited;
+    }
+
+    /**
+     * Creates a journal record from a contiguous replaced range of a list.
+     */
+    @FunctionalInterface
+    private interface RecordFactory<T> {
+        JsonAdaptedJournalRecord create(long generation, int index, int count, List<T> inserted);
+    }
+}
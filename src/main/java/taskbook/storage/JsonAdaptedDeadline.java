@@ -101,4 +101,11 @@ public class JsonAdaptedDeadline extends JsonAdaptedTask {
         final Set<Tag> modelTags = new HashSet<>(taskTags);
         return new Deadline(modelName, modelAssignment, modelDescription, this.isDone(), modelDeadlineDate, modelTags);
     }
+
+    @Override
+    public Deadline toTrustedModelType() {
+        return new Deadline(Name.ofTrusted(getName()), Assignment.valueOf(getAssignment()),
+                Description.ofTrusted(getDescription()), isDone(), LocalDate.parse(getDeadlineDate()),
+                toTrustedModelTags());
+    }
 }
@@ -101,4 +101,11 @@ public class JsonAdaptedEvent extends JsonAdaptedTask {
         final Set<Tag> modelTags = new HashSet<>(taskTags);
         return new Event(modelName, modelAssignment, modelDescription, this.isDone(), modelEventDate, modelTags);
     }
+
+    @Override
+    public Event toTrustedModelType() {
+        return new Event(Name.ofTrusted(getName()), Assignment.valueOf(getAssignment()),
+                Description.ofTrusted(getDescription()), isDone(), LocalDate.parse(getEventDate()),
+                toTrustedModelTags());
+    }
 }
@@ -0,0 +1,130 @@
+package taskbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Jackson-friendly version of a single change to the persons or tasks list of a task book.
+ * A record replaces {@code count} entries starting at {@code index} with the records it carries,
+ * so a record with a zero {@code count} is an insertion and a record carrying nothing is a deletion.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_RANGE = "Journal record does not fit the current %s list.";
+
+    /**
+     * Represents the kind of change described by a record.
+     */
+    enum Operation {
+        ADD, SET, DELETE
+    }
+
+    /**
+     * Represents the list of the task book a record applies to.
+     */
+    enum Target {
+        PERSONS, TASKS
+    }
+
+    private final long generation;
+    private final Operation op;
+    private final Target target;
+    private final int index;
+    private final int count;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("generation") long generation, @JsonProperty("op") Operation op,
+                                    @JsonProperty("target") Target target, @JsonProperty("index") int index,
+                                    @JsonProperty("count") int count,
+                                    @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                    @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+        this.generation = generation;
+        this.op = op;
+        this.target = target;
+        this.index = index;
+        this.count = count;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+    }
+
+    /**
+     * Creates a record that replaces {@code count} persons starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofPersons(long generation, int index, int count, List<Person> inserted) {
+        return new JsonAdaptedJournalRecord(generation, operationOf(count, inserted.size()), Target.PERSONS,
+                index, count, JsonSerializableTaskBook.adaptPersons(inserted), null);
+    }
+
+    /**
+     * Creates a record that replaces {@code count} tasks starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalRecord ofTasks(long generation, int index, int count, List<Task> inserted) {
+        return new JsonAdaptedJournalRecord(generation, operationOf(count, inserted.size()), Target.TASKS,
+                index, count, null, JsonSerializableTaskBook.adaptTasks(inserted));
+    }
+
+    private static Operation operationOf(int removedCount, int insertedCount) {
+        if (removedCount == 0) {
+            return Operation.ADD;
+        }
+        return insertedCount == 0 ? Operation.DELETE : Operation.SET;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Applies this record to the given model lists.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit the given lists.
+     */
+    public void applyTo(List<Person> personList, List<Task> taskList) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+
+        if (target == Target.PERSONS) {
+            List<Person> inserted = new ArrayList<>();
+            for (JsonAdaptedPerson person : persons) {
+                inserted.add(person.toModelType());
+            }
+            splice(personList, inserted);
+        } else {
+            List<Task> inserted = new ArrayList<>();
+            for (JsonAdaptedTask task : tasks) {
+                inserted.add(task.toModelType());
+            }
+            splice(taskList, inserted);
+        }
+    }
+
+    private <T> void splice(List<T> list, List<T> inserted) throws IllegalValueException {
+        if (index < 0 || count < 0 || index + count > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, target.name().toLowerCase()));
+        }
+        List<T> replaced = list.subList(index, index + count);
+        replaced.clear();
+        replaced.addAll(inserted);
+    }
+}
@@ -105,4 +105,17 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object without
+     * validating its fields, which must have been validated by the version of the app that saved them.
+     */
+    public Person toTrustedModelType() {
+        Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                Address.ofTrusted(address), modelTags);
+    }
 }
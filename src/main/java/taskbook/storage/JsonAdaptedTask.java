@@ -1,7 +1,9 @@
 package taskbook.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,7 +12,11 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.Event;
 import taskbook.model.task.Task;
+import taskbook.model.task.Todo;
 
 
 
@@ -65,6 +71,22 @@ public abstract class JsonAdaptedTask {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Converts a given {@code Task} into the Jackson-friendly subclass matching its task type.
+     * Returns null if the task type is not supported.
+     */
+    public static JsonAdaptedTask fromModelType(Task task) {
+        Class<? extends Task> c = task.getClass();
+        if (c.equals(Todo.class)) {
+            return new JsonAdaptedTodo(task);
+        } else if (c.equals(Event.class)) {
+            return new JsonAdaptedEvent((Event) task);
+        } else if (c.equals(Deadline.class)) {
+            return new JsonAdaptedDeadline((Deadline) task);
+        }
+        return null;
+    }
+
     public String getName() {
         return name;
     }
@@ -91,4 +113,21 @@ public abstract class JsonAdaptedTask {
      * @throws IllegalValueException if there were any data constraints violated in the adapted task.
      */
     public abstract Task toModelType() throws IllegalValueException;
+
+    /**
+     * Converts this Jackson-friendly adapted Task object into the model's {@code Task} object without validating
+     * its fields, which must have been validated by the version of the app that saved them.
+     */
+    public abstract Task toTrustedModelType();
+
+    /**
+     * Returns the model's {@code Tag} objects of this task without validating them.
+     */
+    protected Set<Tag> toTrustedModelTags() {
+        Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return modelTags;
+    }
 }
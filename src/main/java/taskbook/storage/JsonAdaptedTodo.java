@@ -78,4 +78,10 @@ public class JsonAdaptedTodo extends JsonAdaptedTask {
         final Set<Tag> modelTags = new HashSet<>(taskTags);
         return new Todo(modelName, modelAssignment, modelDescription, this.isDone(), modelTags);
     }
+
+    @Override
+    public Todo toTrustedModelType() {
+        return new Todo(Name.ofTrusted(getName()), Assignment.valueOf(getAssignment()),
+                Description.ofTrusted(getDescription()), isDone(), toTrustedModelTags());
+    }
 }
@@ -0,0 +1,179 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Reads and writes the persons and tasks of a task book as a json file with one record per line,
+ * for moving records between task books in bulk.
+ * Each line holds either a {@code person} or a {@code task}, so that a file can be cut, joined or generated
+ * line by line by other tools.
+ */
+public class JsonLinesTaskBookFile {
+
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_EMPTY_LINE = "A line must hold either a person or a task.";
+
+    /** Enough lines to be split between threads, and few enough to bound the lines held before conversion. */
+    private static final int CONVERSION_BATCH_SIZE = ParallelRecordConverter.BATCH_SIZE * 8;
+
+    /**
+     * Writes the persons and then the tasks of {@code taskBook} to {@code filePath}, one record per line.
+     * The file is written one record at a time and replaces any file at {@code filePath} only once complete.
+     */
+    public static void write(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, file -> {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Person person : taskBook.getPersonList()) {
+                    writeLine(writer, new JsonAdaptedLine(new JsonAdaptedPerson(person), null));
+                }
+                for (Task task : taskBook.getTaskList()) {
+                    writeLine(writer, new JsonAdaptedLine(null, JsonAdaptedTask.fromModelType(task)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Reads the records in {@code filePath}, skipping blank lines.
+     * The lines are validated in parallel in bounded batches as they are read, so that only the records are kept,
+     * and no record is returned if any line is invalid.
+     *
+     * @throws DataConversionException if any line is not a valid record, naming the first such line.
+     */
+    public static Records read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Records records = new Records();
+        List<NumberedLine> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new NumberedLine(lineNumber, line));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    records.addAll(convertAll(batch));
+                    batch.clear();
+                }
+            }
+        }
+        records.addAll(convertAll(batch));
+        return records;
+    }
+
+    private static List<Object> convertAll(List<NumberedLine> lines) throws DataConversionException {
+        try {
+            return ParallelRecordConverter.convertAll(lines, line -> parseLine(line.number, line.text));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, JsonAdaptedLine line) throws IOException {
+        writer.write(JsonUtil.toCompactJsonString(line));
+        writer.newLine();
+    }
+
+    private static Object parseLine(int lineNumber, String line) throws IllegalValueException {
+        try {
+            JsonAdaptedLine adaptedLine = JsonUtil.fromJsonString(line, JsonAdaptedLine.class);
+            if (adaptedLine == null) {
+                // The line is the json literal null.
+                throw new IllegalValueException(MESSAGE_EMPTY_LINE);
+            }
+            return adaptedLine.toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, lineNumber, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * The persons and tasks read from a file, in the order they appear in the file.
+     */
+    public static class Records {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Task> tasks = new ArrayList<>();
+
+        private void addAll(List<Object> records) {
+            for (Object record : records) {
+                if (record instanceof Person) {
+                    persons.add((Person) record);
+                } else {
+                    tasks.add((Task) record);
+                }
+            }
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        public List<Task> getTasks() {
+            return tasks;
+        }
+    }
+
+    /**
+     * A line of the file with its line number, counted from 1.
+     */
+    private static class NumberedLine {
+        private final int number;
+        private final String text;
+
+        NumberedLine(int number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Jackson-friendly version of one line of the file.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class JsonAdaptedLine {
+        private final JsonAdaptedPerson person;
+        private final JsonAdaptedTask task;
+
+        @JsonCreator
+        JsonAdaptedLine(@JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("task") JsonAdaptedTask task) {
+            this.person = person;
+            this.task = task;
+        }
+
+        Object toModelType() throws IllegalValueException {
+            if (person != null && task == null) {
+                return person.toModelType();
+            } else if (task != null && person == null) {
+                return task.toModelType();
+            }
+            throw new IllegalValueException(MESSAGE_EMPTY_LINE);
+        }
+    }
+}
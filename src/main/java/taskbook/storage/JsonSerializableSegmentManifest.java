@@ -0,0 +1,41 @@
+package taskbook.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a segmented task book.
+ * The manifest names the file that holds each segment, so that replacing it switches every segment of a save
+ * over at once.
+ */
+class JsonSerializableSegmentManifest {
+
+    private final long generation;
+    private final Map<String, String> segmentFiles = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given manifest details.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("generation") long generation,
+                                           @JsonProperty("segmentFiles") Map<String, String> segmentFiles) {
+        this.generation = generation;
+        if (segmentFiles != null) {
+            this.segmentFiles.putAll(segmentFiles);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file holding each segment, by segment name.
+     */
+    public Map<String, String> getSegmentFiles() {
+        return segmentFiles;
+    }
+}
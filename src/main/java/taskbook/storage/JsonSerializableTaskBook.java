@@ -1,7 +1,9 @@
 package taskbook.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -13,10 +15,7 @@ import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.TaskBook;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
-import taskbook.model.task.Deadline;
-import taskbook.model.task.Event;
 import taskbook.model.task.Task;
-import taskbook.model.task.Todo;
 
 /**
  * An Immutable TaskBook that is serializable to JSON format.
@@ -46,20 +45,21 @@ class JsonSerializableTaskBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableTaskBook}.
      */
     public JsonSerializableTaskBook(ReadOnlyTaskBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        tasks.addAll(
-            source.getTaskList().stream().map(task -> {
-                Class<? extends Task> c = task.getClass();
-                if (c.equals(Todo.class)) {
-                    return new JsonAdaptedTodo(task);
-                } else if (c.equals(Event.class)) {
-                    return new JsonAdaptedEvent((Event) task);
-                } else if (c.equals(Deadline.class)) {
-                    return new JsonAdaptedDeadline((Deadline) task);
-                }
-                return null;
-            }).collect(Collectors.toList())
-        );
+        this(adaptPersons(source.getPersonList()), adaptTasks(source.getTaskList()));
+    }
+
+    /**
+     * Converts the given model {@code persons} into their Jackson-friendly form.
+     */
+    static List<JsonAdaptedPerson> adaptPersons(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts the given model {@code tasks} into their Jackson-friendly form.
+     */
+    static List<JsonAdaptedTask> adaptTasks(List<Task> tasks) {
+        return tasks.stream().map(JsonAdaptedTask::fromModelType).collect(Collectors.toList());
     }
 
     /**
@@ -68,24 +68,42 @@ class JsonSerializableTaskBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaskBook toModelType() throws IllegalValueException {
-        TaskBook taskBook = new TaskBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (taskBook.hasPerson(person)) {
+        List<Person> modelPersons = ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+        List<Task> modelTasks = ParallelRecordConverter.convertAll(tasks, JsonAdaptedTask::toModelType);
+        return buildTaskBook(modelPersons, modelTasks);
+    }
+
+    /**
+     * Validates the given {@code persons} and {@code tasks} read from a file and builds a {@code TaskBook} from them.
+     * Tasks assigned to persons that are not in {@code persons} are dropped.
+     * Identities are checked with hash sets, so that building is linear in the size of the task book.
+     *
+     * @throws IllegalValueException if there are duplicate persons or tasks.
+     */
+    static TaskBook buildTaskBook(List<Person> persons, List<Task> tasks) throws IllegalValueException {
+        Set<Name> personNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!personNames.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            taskBook.addPerson(person);
         }
-        for (JsonAdaptedTask jsonAdaptedTask: tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskBook.hasTask(task)) {
+
+        Set<List<Object>> taskIdentities = new HashSet<>();
+        List<Task> keptTasks = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (taskIdentities.contains(task.getIdentity())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
-            if (!task.getName().equals(Name.SELF) && taskBook.findPerson(task.getName()) == null) {
+            if (!task.getName().equals(Name.SELF) && !personNames.contains(task.getName())) {
                 continue;
             }
-            taskBook.addTask(task);
+            taskIdentities.add(task.getIdentity());
+            keptTasks.add(task);
         }
+
+        TaskBook taskBook = new TaskBook();
+        taskBook.setPersons(persons);
+        taskBook.setTasks(keptTasks);
         return taskBook;
     }
 
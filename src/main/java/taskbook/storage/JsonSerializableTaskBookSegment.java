@@ -0,0 +1,83 @@
+package taskbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Jackson-friendly version of one segment of a segmented task book.
+ * A segment holds either persons, or tasks together with the position of each task in the whole task list.
+ */
+class JsonSerializableTaskBookSegment {
+
+    public static final String MESSAGE_POSITIONS_MISMATCH = "Segment does not hold one position per task.";
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableTaskBookSegment} with the given segment details.
+     */
+    @JsonCreator
+    public JsonSerializableTaskBookSegment(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                           @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                                           @JsonProperty("positions") List<Long> positions) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Creates a segment holding {@code persons}.
+     */
+    public static JsonSerializableTaskBookSegment ofPersons(List<Person> persons) {
+        return new JsonSerializableTaskBookSegment(JsonSerializableTaskBook.adaptPersons(persons), null, null);
+    }
+
+    /**
+     * Creates a segment holding {@code tasks}, where the task at each index is at the position
+     * at the same index of {@code positions} in the whole task list.
+     */
+    public static JsonSerializableTaskBookSegment ofTasks(List<Task> tasks, List<Long> positions) {
+        return new JsonSerializableTaskBookSegment(null, JsonSerializableTaskBook.adaptTasks(tasks), positions);
+    }
+
+    public List<Long> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Converts the persons of this segment into the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the persons.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        return ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+    }
+
+    /**
+     * Converts the tasks of this segment into the model's {@code Task} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tasks,
+     *     or if there is not exactly one position per task.
+     */
+    public List<Task> toModelTasks() throws IllegalValueException {
+        if (positions.size() != tasks.size()) {
+            throw new IllegalValueException(MESSAGE_POSITIONS_MISMATCH);
+        }
+        return ParallelRecordConverter.convertAll(tasks, JsonAdaptedTask::toModelType);
+    }
+}
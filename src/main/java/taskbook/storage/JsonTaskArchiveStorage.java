@@ -0,0 +1,110 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskArchive;
+import taskbook.model.task.Task;
+
+/**
+ * A {@code TaskArchive} stored on the hard disk as a json file with one task per line.
+ * Archiving appends the tasks to the end of the file, which is never rewritten, and queries read the file
+ * one line at a time. A line that cannot be read, such as the last line of an append cut short, is skipped,
+ * and the next append starts on a new line so that its first task is not lost with it.
+ */
+public class JsonTaskArchiveStorage implements TaskArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskArchiveStorage.class);
+
+    private final Path filePath;
+
+    public JsonTaskArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getTaskArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void append(List<Task> tasks) throws IOException {
+        requireNonNull(tasks);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!endsWithLineBreak()) {
+            lines.append('\n');
+        }
+        for (Task task : tasks) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedTask.fromModelType(task))).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+
+    /**
+     * Returns true if the file is missing, empty or ends with a line break.
+     */
+    private boolean endsWithLineBreak() throws IOException {
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    @Override
+    public Stream<Task> stream() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Stream.empty();
+        }
+
+        BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(this::parseLine)
+                .filter(Objects::nonNull)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                });
+    }
+
+    private Task parseLine(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedTask.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping unreadable archived task in " + filePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
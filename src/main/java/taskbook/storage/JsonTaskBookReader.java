@@ -0,0 +1,226 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Reads a task book json file token by token into its Jackson-friendly records, so that the file is never held
+ * in memory as a whole. Gzip-compressed files are decompressed on the fly as they are read. The records are
+ * converted into their model types in parallel in bounded batches as they are read, so that only the model types
+ * are kept, and are then validated and added to the task book in bulk.
+ *
+ * If the file was validated by this version of the app, as stated before its records, the records are converted
+ * without validating their fields again. They are only trusted if the checksum at the end of the file matches its
+ * content; otherwise the file is read again with every record validated.
+ * Top-level scalar fields other than the persons and tasks are kept and can be looked up after reading.
+ */
+class JsonTaskBookReader {
+
+    public static final String MESSAGE_MALFORMED_FILE = "Task book file is not in the expected format.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskBookReader.class);
+
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+    /** Enough records to be split between threads, and few enough to bound the records held before conversion. */
+    private static final int CONVERSION_BATCH_SIZE = ParallelRecordConverter.BATCH_SIZE * 8;
+
+    private final Path filePath;
+    private final Map<String, String> otherFields = new HashMap<>();
+    private long tasksEndOffset;
+    private boolean isUnchanged;
+    private boolean isTrusted;
+
+    /**
+     * Creates a {@code JsonTaskBookReader} for the file at {@code filePath}.
+     */
+    public JsonTaskBookReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the file into a new {@code TaskBook}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public TaskBook read() throws IOException, IllegalValueException {
+        Records records;
+        try {
+            records = parse(true);
+        } catch (RuntimeException e) {
+            // Records converted without validation fail in unchecked ways if the file was changed since it was
+            // validated, so they are read again and validated after all.
+            logger.info("Validating " + filePath + " again after a record failed to convert: " + e);
+            records = parse(false);
+        }
+        isUnchanged = hasMatchingChecksum();
+        isTrusted = records.isConvertedAsTrusted && isUnchanged;
+        if (records.isConvertedAsTrusted && !isTrusted) {
+            // The file was changed since it was validated, so its records are read again and validated after all.
+            records = parse(false);
+        }
+        // Tasks are only validated once every person is known, as they are checked against their assignees.
+        return JsonSerializableTaskBook.buildTaskBook(records.persons, records.tasks);
+    }
+
+    /**
+     * Parses the file, converting its records without validating them if {@code mayTrust} is true and the file
+     * states that it was validated by this version of the app before its records.
+     */
+    private Records parse(boolean mayTrust) throws IOException, IllegalValueException {
+        Records records = new Records();
+        otherFields.clear();
+        tasksEndOffset = -1;
+
+        try (JsonParser parser = JsonUtil.createParser(FileUtil.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_FILE);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                boolean isTrustedSoFar = mayTrust && getOtherField(JsonTaskBookWriter.VALIDATED_BY_FIELD)
+                        .equals(Optional.of(JsonTaskBookWriter.VALIDATED_BY));
+                if (fieldName.equals("persons")) {
+                    records.isConvertedAsTrusted |= isTrustedSoFar;
+                    readRecords(parser, JsonAdaptedPerson.class, records.persons, isTrustedSoFar
+                            ? JsonAdaptedPerson::toTrustedModelType
+                            : JsonAdaptedPerson::toModelType);
+                } else if (fieldName.equals("tasks")) {
+                    records.isConvertedAsTrusted |= isTrustedSoFar;
+                    readRecords(parser, JsonAdaptedTask.class, records.tasks, isTrustedSoFar
+                            ? JsonAdaptedTask::toTrustedModelType
+                            : JsonAdaptedTask::toModelType);
+                    tasksEndOffset = parser.getTokenLocation().getByteOffset() + 1;
+                } else if (value.isScalarValue()) {
+                    otherFields.put(fieldName, parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_FILE);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the text of the top-level scalar field {@code fieldName} found by the last {@link #read()}.
+     */
+    public Optional<String> getOtherField(String fieldName) {
+        return Optional.ofNullable(otherFields.get(fieldName));
+    }
+
+    /**
+     * Returns true if the records found by the last {@link #read()} were trusted to be valid.
+     */
+    boolean isTrusted() {
+        return isTrusted;
+    }
+
+    /**
+     * Returns true if the file read by the last {@link #read()} carries a checksum that matches its content,
+     * so that it was not changed since it was written, by any version of the app.
+     */
+    boolean isUnchanged() {
+        return isUnchanged;
+    }
+
+    /**
+     * Returns true if the checksum of the file matches its content up to the end of the tasks.
+     */
+    private boolean hasMatchingChecksum() throws IOException {
+        Optional<String> expectedChecksum = getOtherField(JsonTaskBookWriter.CHECKSUM_FIELD);
+        if (tasksEndOffset < 0 || !expectedChecksum.isPresent()) {
+            return false;
+        }
+
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            long remaining = tasksEndOffset;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    return false;
+                }
+                checksum.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return expectedChecksum.get().equals(String.valueOf(checksum.getValue()));
+    }
+
+    /**
+     * Reads the array of records the parser is at, converting them in batches and adding them to {@code converted}.
+     */
+    private <A, M> void readRecords(JsonParser parser, Class<A> recordType, List<M> converted,
+            ParallelRecordConverter.Conversion<A, M> conversion) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        List<A> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(readElement(parser, recordType));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                converted.addAll(ParallelRecordConverter.convertAll(batch, conversion));
+                batch.clear();
+            }
+        }
+        converted.addAll(ParallelRecordConverter.convertAll(batch, conversion));
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null value.
+     */
+    private boolean startArray(JsonParser parser) throws IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_FILE);
+        }
+        return true;
+    }
+
+    private <T> T readElement(JsonParser parser, Class<T> elementType) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_FILE);
+        }
+        return parser.readValueAs(elementType);
+    }
+
+    /**
+     * The model types of the records parsed from a file.
+     */
+    private static class Records {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Task> tasks = new ArrayList<>();
+        /** True if any records were converted without validating them. */
+        private boolean isConvertedAsTrusted;
+    }
+}
@@ -3,6 +3,7 @@ package taskbook.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +12,34 @@ import taskbook.commons.core.LogsCenter;
 import taskbook.commons.exceptions.DataConversionException;
 import taskbook.commons.exceptions.IllegalValueException;
 import taskbook.commons.util.FileUtil;
-import taskbook.commons.util.JsonUtil;
 import taskbook.model.ReadOnlyTaskBook;
 
 /**
  * A class to access TaskBook data stored as a json file on the hard disk.
+ * Saves replace the file atomically and keep the file they replace as a backup, which is read instead
+ * if the file is missing or unreadable.
+ *
+ * Files named with the gzip extension are saved gzip-compressed. Compressed files and their backups are
+ * decompressed on the fly as they are read.
  */
 public class JsonTaskBookStorage implements TaskBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTaskBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonTaskBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTaskBookStorage} for the file at {@code filePath} that saves compact, single-line json
+     * instead of pretty-printed json if {@code isCompact} is true.
+     */
+    public JsonTaskBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getTaskBookFilePath() {
@@ -39,20 +54,45 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     /**
      * Similar to {@link #readTaskBook()}.
      *
+     * Falls back to the backup of {@code filePath} if the file is missing or not in the correct format.
+     *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
      */
     public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskBook.class);
-        if (!jsonTaskBook.isPresent()) {
-            return Optional.empty();
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            if (!Files.exists(backupFilePath)) {
+                return Optional.empty();
+            }
+            logger.warning("Reading the previous generation from " + backupFilePath);
+            return Optional.of(read(backupFilePath));
         }
 
         try {
-            return Optional.of(jsonTaskBook.get().toModelType());
+            return Optional.of(read(filePath));
+        } catch (DataConversionException dce) {
+            if (!Files.exists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Reading the previous generation from " + backupFilePath);
+            try {
+                return Optional.of(read(backupFilePath));
+            } catch (DataConversionException backupDce) {
+                throw dce;
+            }
+        }
+    }
+
+    private ReadOnlyTaskBook read(Path filePath) throws DataConversionException {
+        try {
+            return new JsonTaskBookReader(filePath).read();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +113,9 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(taskBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        JsonTaskBookWriter writer = new JsonTaskBookWriter(isCompact, FileUtil.isCompressedPath(filePath));
+        FileUtil.writeAtomicallyKeepingBackup(filePath,
+                temp -> writer.write(temp, taskBook.getPersonList(), taskBook.getTaskList()));
     }
 
 }
@@ -0,0 +1,103 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import taskbook.MainApp;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Writes task book json files by streaming the persons and tasks of the model through a json generator,
+ * adapting one record at a time, so that the file is never held in memory as a whole.
+ * The file written can be read by {@link JsonTaskBookReader} and by {@link JsonSerializableTaskBook}.
+ *
+ * The file starts with the version of the app that validated the records and ends with a CRC32 checksum of
+ * everything up to the end of the tasks, so that a reader of the same version can convert the records without
+ * validating them again as it reads them, and confirm at the end that they were not changed since.
+ */
+class JsonTaskBookWriter {
+
+    public static final String CHECKSUM_FIELD = "checksum";
+    public static final String VALIDATED_BY_FIELD = "validatedBy";
+    public static final String VALIDATED_BY = MainApp.VERSION.toString();
+
+    private final boolean isCompact;
+    private final boolean isCompressed;
+
+    /**
+     * Creates a {@code JsonTaskBookWriter} that writes compact, single-line json if {@code isCompact} is true,
+     * or pretty-printed json otherwise.
+     */
+    public JsonTaskBookWriter(boolean isCompact) {
+        this(isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonTaskBookWriter} like {@link #JsonTaskBookWriter(boolean)} that also gzip-compresses
+     * the json as it is written if {@code isCompressed} is true.
+     */
+    public JsonTaskBookWriter(boolean isCompact, boolean isCompressed) {
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Writes {@code persons} and {@code tasks} to the file at {@code filePath}, overwriting it if it exists.
+     */
+    public void write(Path filePath, List<Person> persons, List<Task> tasks) throws IOException {
+        write(filePath, persons, tasks, Collections.emptyMap());
+    }
+
+    /**
+     * Writes {@code persons} and {@code tasks} to the file at {@code filePath}, overwriting it if it exists.
+     * Each of {@code otherFields} is written as an extra top-level field.
+     */
+    public void write(Path filePath, List<Person> persons, List<Task> tasks, Map<String, Long> otherFields)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(persons);
+        requireNonNull(tasks);
+        requireNonNull(otherFields);
+
+        CRC32 checksum = new CRC32();
+        // the checksum is of the json itself, whether it is compressed or not
+        try (OutputStream out = new CheckedOutputStream(FileUtil.newOutputStream(filePath, isCompressed), checksum);
+             JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Long> field : otherFields.entrySet()) {
+                generator.writeNumberField(field.getKey(), field.getValue());
+            }
+            generator.writeStringField(VALIDATED_BY_FIELD, VALIDATED_BY);
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("tasks");
+            for (Task task : tasks) {
+                generator.writeObject(JsonAdaptedTask.fromModelType(task));
+            }
+            generator.writeEndArray();
+
+            generator.flush();
+            generator.writeNumberField(CHECKSUM_FIELD, checksum.getValue());
+
+            generator.writeEndObject();
+        }
+    }
+}
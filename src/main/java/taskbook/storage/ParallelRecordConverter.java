@@ -0,0 +1,102 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import taskbook.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into their model types on the common fork-join pool.
+ * The records are split into batches that are converted in parallel, and the results are put back in the order
+ * of the records. If any record is invalid, the error of the first invalid record in that order is reported,
+ * the same error a sequential conversion would report.
+ */
+class ParallelRecordConverter {
+
+    /** Lists no longer than this are converted by a single thread. */
+    static final int BATCH_SIZE = 512;
+
+    /**
+     * Converts a single record into its model type.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the model types of {@code records}, in the same order.
+     *
+     * @throws IllegalValueException the error of the first record that violates any data constraints.
+     */
+    static <A, M> List<M> convertAll(List<A> records, Conversion<A, M> conversion) throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+
+        Object[] results = new Object[records.size()];
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+        ConversionTask<A, M> task = new ConversionTask<>(records, conversion, results, errors, 0, records.size());
+        if (records.size() <= BATCH_SIZE) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<M> converted = (List<M>) new ArrayList<>(Arrays.asList(results));
+        return converted;
+    }
+
+    /**
+     * Converts the records in {@code [start, end)}, splitting the range in halves until it fits in a batch.
+     * Each batch stops at its first invalid record, which is all that is needed to find the first invalid record
+     * of the whole list.
+     */
+    private static class ConversionTask<A, M> extends RecursiveAction {
+        private final List<A> records;
+        private final Conversion<A, M> conversion;
+        private final Object[] results;
+        private final IllegalValueException[] errors;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<A> records, Conversion<A, M> conversion, Object[] results,
+                       IllegalValueException[] errors, int start, int end) {
+            this.records = records;
+            this.conversion = conversion;
+            this.results = results;
+            this.errors = errors;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > BATCH_SIZE) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConversionTask<>(records, conversion, results, errors, start, middle),
+                        new ConversionTask<>(records, conversion, results, errors, middle, end));
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                try {
+                    results[i] = conversion.convert(records.get(i));
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored as a directory of json segments on the hard disk.
+ * Persons, tasks that are not done yet and tasks that are done are kept in separate segments,
+ * with the done tasks further bucketed by the month of their date. A save rewrites only the segments
+ * whose content changed, so marking a task as done rewrites two segments and leaves every other one alone.
+ *
+ * Every task is stored with its position in the whole task list, so that the order of the task list is
+ * restored when the segments are read back. Positions are spaced apart, so adding, deleting or moving a task
+ * leaves the positions of the other tasks, and thus the segments holding them, untouched.
+ *
+ * A save writes the segments it rewrites to new files named after its generation, and then replaces the manifest
+ * that names the file of each segment in one step, so a save cut short leaves the previous generation whole.
+ * Files that the manifest no longer names are deleted afterwards. A directory without a manifest is read from the
+ * segment files of the layout that came before it.
+ */
+public class SegmentedTaskBookStorage implements TaskBookStorage {
+
+    public static final String PERSONS_SEGMENT = "persons";
+    public static final String ACTIVE_TASKS_SEGMENT = "active";
+    public static final String DONE_TASKS_SEGMENT_PREFIX = "done-";
+    public static final String UNDATED_BUCKET = "undated";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedTaskBookStorage.class);
+
+    public static final String MANIFEST_FILE = "manifest.json";
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment file %1$s is missing.";
+
+    private static final String SEGMENT_EXTENSION = ".json";
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final long POSITION_GAP = 1 << 16;
+
+    private final Path directoryPath;
+
+    private List<Person> lastSavedPersons;
+    private List<Task> lastSavedTasks;
+    private long[] lastSavedPositions;
+    private Map<String, Segment> lastSavedSegments;
+    private JsonSerializableSegmentManifest lastSavedManifest;
+
+    /**
+     * Creates a {@code SegmentedTaskBookStorage} that keeps its segments in the directory at {@code directoryPath}.
+     */
+    public SegmentedTaskBookStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the manifest only, as every save that changes a segment replaces it.
+     */
+    @Override
+    public List<Path> getDataFilePaths() {
+        return List.of(directoryPath.resolve(MANIFEST_FILE));
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param directoryPath location of the segments. Cannot be null.
+     * @throws DataConversionException if any segment is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook(Path directoryPath)
+            throws DataConversionException, IOException {
+        requireNonNull(directoryPath);
+
+        if (!Files.isDirectory(directoryPath)) {
+            logger.info("Segment directory " + directoryPath + " not found");
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>();
+        TreeMap<Long, Task> tasksByPosition = new TreeMap<>();
+        Map<String, Segment> segments = new HashMap<>();
+        JsonSerializableSegmentManifest manifest = readManifest(directoryPath);
+        try {
+            for (Map.Entry<String, String> segmentFile : manifest.getSegmentFiles().entrySet()) {
+                JsonSerializableTaskBookSegment jsonSegment = readSegment(directoryPath, segmentFile.getValue());
+                if (segmentFile.getKey().equals(PERSONS_SEGMENT)) {
+                    persons = jsonSegment.toModelPersons();
+                    continue;
+                }
+
+                List<Task> tasks = jsonSegment.toModelTasks();
+                List<Long> positions = jsonSegment.getPositions();
+                for (int i = 0; i < tasks.size(); i++) {
+                    if (tasksByPosition.put(positions.get(i), tasks.get(i)) != null) {
+                        throw new IllegalValueException(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+                    }
+                }
+                segments.put(segmentFile.getKey(), new Segment(tasks, positions));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        List<Task> tasks = new ArrayList<>(tasksByPosition.values());
+        ReadOnlyTaskBook taskBook;
+        try {
+            taskBook = JsonSerializableTaskBook.buildTaskBook(persons, tasks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (directoryPath.equals(this.directoryPath) && taskBook.getTaskList().size() == tasks.size()) {
+            // What is on disk is exactly what was read, so later saves can skip the unchanged segments.
+            lastSavedPersons = new ArrayList<>(persons);
+            lastSavedTasks = tasks;
+            lastSavedPositions = tasksByPosition.keySet().stream().mapToLong(Long::longValue).toArray();
+            lastSavedSegments = segments;
+            lastSavedManifest = manifest;
+        }
+        return Optional.of(taskBook);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only saves to the storage directory skip unchanged segments; saves elsewhere write every segment.
+     *
+     * @param directoryPath location of the segments. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path directoryPath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(directoryPath);
+
+        List<Person> persons = new ArrayList<>(taskBook.getPersonList());
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        boolean isIncremental = directoryPath.equals(this.directoryPath) && lastSavedTasks != null;
+
+        long[] positions = isIncremental
+                ? assignPositions(lastSavedTasks, lastSavedPositions, tasks)
+                : spacedPositions(tasks.size());
+        Map<String, Segment> segments = toSegments(tasks, positions);
+        JsonSerializableSegmentManifest savedManifest = isIncremental
+                ? lastSavedManifest
+                : readManifestQuietly(directoryPath);
+        Map<String, String> savedFiles = savedManifest.getSegmentFiles();
+        long generation = savedManifest.getGeneration() + 1;
+
+        Files.createDirectories(directoryPath);
+        Map<String, String> segmentFiles = new LinkedHashMap<>();
+        if (isIncremental && persons.equals(lastSavedPersons) && savedFiles.containsKey(PERSONS_SEGMENT)) {
+            segmentFiles.put(PERSONS_SEGMENT, savedFiles.get(PERSONS_SEGMENT));
+        } else {
+            segmentFiles.put(PERSONS_SEGMENT, writeSegment(directoryPath, PERSONS_SEGMENT, generation,
+                    JsonSerializableTaskBookSegment.ofPersons(persons)));
+        }
+        int writtenCount = 0;
+        for (Map.Entry<String, Segment> entry : segments.entrySet()) {
+            String name = entry.getKey();
+            Segment segment = entry.getValue();
+            if (isIncremental && segment.equals(lastSavedSegments.get(name)) && savedFiles.containsKey(name)) {
+                segmentFiles.put(name, savedFiles.get(name));
+                continue;
+            }
+            segmentFiles.put(name, writeSegment(directoryPath, name, generation,
+                    JsonSerializableTaskBookSegment.ofTasks(segment.tasks, segment.positions)));
+            writtenCount++;
+        }
+
+        // the save takes effect all at once, when the manifest naming its files replaces the previous one
+        JsonSerializableSegmentManifest manifest = new JsonSerializableSegmentManifest(generation, segmentFiles);
+        JsonUtil.saveJsonFile(manifest, directoryPath.resolve(MANIFEST_FILE));
+        deleteUnlistedSegmentFiles(directoryPath, segmentFiles);
+        logger.fine("Rewrote " + writtenCount + " of " + segments.size() + " task segments of " + directoryPath);
+
+        if (directoryPath.equals(this.directoryPath)) {
+            lastSavedPersons = persons;
+            lastSavedTasks = tasks;
+            lastSavedPositions = positions;
+            lastSavedSegments = segments;
+            lastSavedManifest = manifest;
+        }
+    }
+
+    /**
+     * Writes {@code segment} to a new file for {@code generation} and returns the name of the file.
+     */
+    private static String writeSegment(Path directoryPath, String segmentName, long generation,
+            JsonSerializableTaskBookSegment segment) throws IOException {
+        String fileName = segmentName + "." + generation + SEGMENT_EXTENSION;
+        JsonUtil.saveJsonFile(segment, directoryPath.resolve(fileName));
+        return fileName;
+    }
+
+    /**
+     * Deletes the segment files in {@code directoryPath} that {@code segmentFiles} does not name, which are either
+     * replaced by the latest save or left behind by a save cut short.
+     */
+    private static void deleteUnlistedSegmentFiles(Path directoryPath, Map<String, String> segmentFiles)
+            throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directoryPath, "*" + SEGMENT_EXTENSION)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (isSegmentFile(fileName) && !segmentFiles.containsValue(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isSegmentFile(String fileName) {
+        return fileName.startsWith(PERSONS_SEGMENT + ".") || fileName.startsWith(ACTIVE_TASKS_SEGMENT + ".")
+                || fileName.startsWith(DONE_TASKS_SEGMENT_PREFIX);
+    }
+
+    /**
+     * Returns the name of the segment {@code task} is kept in.
+     */
+    static String getSegmentName(Task task) {
+        if (!task.isDone()) {
+            return ACTIVE_TASKS_SEGMENT;
+        }
+        String bucket = task.hasDate() ? task.getDate().format(BUCKET_FORMATTER) : UNDATED_BUCKET;
+        return DONE_TASKS_SEGMENT_PREFIX + bucket;
+    }
+
+    /**
+     * Returns the positions of {@code records}, keeping the positions of the records that are unchanged since
+     * {@code savedRecords} were saved at {@code savedPositions}. Only the records between the first and the last
+     * changed ones are given new positions, which are spread between the positions of their unchanged neighbours.
+     */
+    static long[] assignPositions(List<?> savedRecords, long[] savedPositions, List<?> records) {
+        int commonLength = Math.min(savedRecords.size(), records.size());
+        int prefix = 0;
+        while (prefix < commonLength && savedRecords.get(prefix).equals(records.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonLength - prefix && savedRecords.get(savedRecords.size() - 1 - suffix)
+                .equals(records.get(records.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        long[] positions = new long[records.size()];
+        System.arraycopy(savedPositions, 0, positions, 0, prefix);
+        System.arraycopy(savedPositions, savedPositions.length - suffix, positions,
+                positions.length - suffix, suffix);
+
+        int insertedCount = records.size() - prefix - suffix;
+        int removedCount = savedRecords.size() - prefix - suffix;
+        if (insertedCount == removedCount) {
+            // records edited in place keep their positions
+            System.arraycopy(savedPositions, prefix, positions, prefix, insertedCount);
+            return positions;
+        }
+
+        long step = POSITION_GAP;
+        long lower;
+        if (prefix > 0 && suffix > 0) {
+            lower = savedPositions[prefix - 1];
+            step = (savedPositions[savedPositions.length - suffix] - lower) / (insertedCount + 1);
+        } else if (prefix > 0) {
+            lower = savedPositions[prefix - 1];
+        } else if (suffix > 0) {
+            lower = savedPositions[savedPositions.length - suffix] - (insertedCount + 1) * POSITION_GAP;
+        } else {
+            lower = -POSITION_GAP;
+        }
+        if (step == 0) {
+            // no room left between the neighbours, so every record is given a new position
+            return spacedPositions(records.size());
+        }
+        for (int i = 0; i < insertedCount; i++) {
+            positions[prefix + i] = lower + (i + 1) * step;
+        }
+        return positions;
+    }
+
+    static long[] spacedPositions(int count) {
+        long[] positions = new long[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = i * POSITION_GAP;
+        }
+        return positions;
+    }
+
+    private static Map<String, Segment> toSegments(List<Task> tasks, long[] positions) {
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Segment segment = segments.computeIfAbsent(getSegmentName(tasks.get(i)),
+                    unused -> new Segment(new ArrayList<>(), new ArrayList<>()));
+            segment.tasks.add(tasks.get(i));
+            segment.positions.add(positions[i]);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the manifest of {@code directoryPath}, or one naming the segment files of the layout without a
+     * manifest if there is none.
+     */
+    private static JsonSerializableSegmentManifest readManifest(Path directoryPath)
+            throws DataConversionException, IOException {
+        Optional<JsonSerializableSegmentManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE), JsonSerializableSegmentManifest.class);
+        if (manifest.isPresent()) {
+            return manifest.get();
+        }
+
+        Map<String, String> segmentFiles = new LinkedHashMap<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return new JsonSerializableSegmentManifest(0, segmentFiles);
+        }
+        for (String segmentName : List.of(PERSONS_SEGMENT, ACTIVE_TASKS_SEGMENT)) {
+            if (Files.exists(directoryPath.resolve(segmentName + SEGMENT_EXTENSION))) {
+                segmentFiles.put(segmentName, segmentName + SEGMENT_EXTENSION);
+            }
+        }
+        String glob = DONE_TASKS_SEGMENT_PREFIX + "*" + SEGMENT_EXTENSION;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directoryPath, glob)) {
+            for (Path segmentPath : stream) {
+                String fileName = segmentPath.getFileName().toString();
+                segmentFiles.put(fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length()), fileName);
+            }
+        }
+        return new JsonSerializableSegmentManifest(0, segmentFiles);
+    }
+
+    /**
+     * Returns the manifest of {@code directoryPath} like {@link #readManifest(Path)}, or an empty one if it is
+     * unreadable, as a save that replaces every segment does not need it.
+     */
+    private static JsonSerializableSegmentManifest readManifestQuietly(Path directoryPath) throws IOException {
+        try {
+            return readManifest(directoryPath);
+        } catch (DataConversionException dce) {
+            logger.warning("Replacing unreadable manifest of " + directoryPath + ": " + dce);
+            return new JsonSerializableSegmentManifest(0, new LinkedHashMap<>());
+        }
+    }
+
+    private static JsonSerializableTaskBookSegment readSegment(Path directoryPath, String fileName)
+            throws DataConversionException, IllegalValueException {
+        Optional<JsonSerializableTaskBookSegment> segment = JsonUtil.readJsonFile(
+                directoryPath.resolve(fileName), JsonSerializableTaskBookSegment.class);
+        if (!segment.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, fileName));
+        }
+        return segment.get();
+    }
+
+    /**
+     * The tasks of one segment, in the order of the task list, and their positions in the task list.
+     */
+    private static class Segment {
+        private final List<Task> tasks;
+        private final List<Long> positions;
+
+        Segment(List<Task> tasks, List<Long> positions) {
+            this.tasks = tasks;
+            this.positions = positions;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Segment
+                    && tasks.equals(((Segment) other).tasks)
+                    && positions.equals(((Segment) other).positions));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tasks, positions);
+        }
+    }
+}
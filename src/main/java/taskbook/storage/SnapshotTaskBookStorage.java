@@ -0,0 +1,356 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.commons.util.StringUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBookBackups;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that keeps rolling backups of the task book it saves, as generations of snapshots
+ * taken at most once every {@link #SNAPSHOT_INTERVAL}.
+ *
+ * A snapshot splits the persons and the tasks into chunks of consecutive records, cutting after each record whose
+ * json hash ends in {@link #CHUNK_BOUNDARY_BITS} zero bits, so that a change to one record changes only the chunk
+ * holding it. Chunks are stored once under the hash of their content and shared by every generation holding them,
+ * so a generation that differs from the previous one in a few records costs only the chunks holding those records
+ * and a list of chunk hashes.
+ *
+ * The newest {@link #HOURLY_GENERATIONS} generations are kept, along with the newest generation of each of the
+ * last {@link #DAILY_GENERATIONS} days in the time zone of the clock. Chunks no longer held by any generation
+ * are deleted.
+ */
+public class SnapshotTaskBookStorage implements TaskBookStorage, TaskBookBackups {
+
+    public static final Duration SNAPSHOT_INTERVAL = Duration.ofHours(1);
+    public static final int HOURLY_GENERATIONS = 24;
+    public static final int DAILY_GENERATIONS = 30;
+
+    static final int CHUNK_BOUNDARY_BITS = 5;
+    static final int MAX_CHUNK_RECORDS = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotTaskBookStorage.class);
+
+    private static final String CHUNKS_DIRECTORY = "chunks";
+    private static final String GENERATIONS_DIRECTORY = "generations";
+    private static final String CHUNK_EXTENSION = ".jsonl";
+    private static final String GENERATION_EXTENSION = ".json";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final TaskBookStorage storage;
+    private final Path backupsDirectoryPath;
+    private final Clock clock;
+
+    private Instant lastSnapshotTime;
+
+    /**
+     * Creates a {@code SnapshotTaskBookStorage} that reads and saves through {@code storage} and keeps
+     * its backups in the directory at {@code backupsDirectoryPath}.
+     */
+    public SnapshotTaskBookStorage(TaskBookStorage storage, Path backupsDirectoryPath) {
+        this(storage, backupsDirectoryPath, Clock.systemDefaultZone());
+    }
+
+    SnapshotTaskBookStorage(TaskBookStorage storage, Path backupsDirectoryPath, Clock clock) {
+        requireNonNull(storage);
+        requireNonNull(backupsDirectoryPath);
+        requireNonNull(clock);
+        this.storage = storage;
+        this.backupsDirectoryPath = backupsDirectoryPath;
+        this.clock = clock;
+    }
+
+    public Path getBackupsDirectoryPath() {
+        return backupsDirectoryPath;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return storage.getDataFilePaths();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return storage.readTaskBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readTaskBook(filePath);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Also takes a snapshot of {@code taskBook} if it is saved to the storage file and the last snapshot is at least
+     * {@link #SNAPSHOT_INTERVAL} old. A snapshot that fails is logged without failing the save.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        storage.saveTaskBook(taskBook, filePath);
+        if (!filePath.equals(getTaskBookFilePath())) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        try {
+            if (lastSnapshotTime == null) {
+                List<Instant> generations = getGenerations();
+                lastSnapshotTime = generations.isEmpty() ? Instant.MIN : generations.get(0);
+            }
+            if (Duration.between(lastSnapshotTime, now).compareTo(SNAPSHOT_INTERVAL) >= 0) {
+                snapshot(taskBook, now);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to back up task book to " + backupsDirectoryPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves {@code taskBook} as the generation taken at {@code time}, then deletes the generations and chunks
+     * that are no longer kept.
+     */
+    synchronized void snapshot(ReadOnlyTaskBook taskBook, Instant time) throws IOException {
+        List<String> personLines = new ArrayList<>();
+        for (Person person : taskBook.getPersonList()) {
+            personLines.add(JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person)));
+        }
+        List<String> taskLines = new ArrayList<>();
+        for (Task task : taskBook.getTaskList()) {
+            taskLines.add(JsonUtil.toCompactJsonString(JsonAdaptedTask.fromModelType(task)));
+        }
+
+        JsonAdaptedGeneration generation = new JsonAdaptedGeneration(saveChunks(personLines), saveChunks(taskLines));
+        JsonUtil.saveJsonFile(generation, getGenerationPath(time));
+        lastSnapshotTime = time;
+        logger.info("Backed up task book as generation " + time);
+        prune(time);
+    }
+
+    @Override
+    public List<Instant> getGenerations() throws IOException {
+        List<Instant> generations = new ArrayList<>();
+        Path generationsDirectory = backupsDirectoryPath.resolve(GENERATIONS_DIRECTORY);
+        if (!Files.isDirectory(generationsDirectory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> files =
+                Files.newDirectoryStream(generationsDirectory, "*" + GENERATION_EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    generations.add(Instant.ofEpochMilli(
+                            Long.parseLong(name.substring(0, name.length() - GENERATION_EXTENSION.length()))));
+                } catch (NumberFormatException nfe) {
+                    logger.warning("Ignoring unknown file in backups: " + file);
+                }
+            }
+        }
+        generations.sort(Comparator.reverseOrder());
+        return generations;
+    }
+
+    /**
+     * Reads the generation taken at {@code generation} one chunk at a time.
+     */
+    @Override
+    public ReadOnlyTaskBook readGeneration(Instant generation) throws DataConversionException, IOException {
+        requireNonNull(generation);
+
+        Optional<JsonAdaptedGeneration> jsonGeneration =
+                JsonUtil.readJsonFile(getGenerationPath(generation), JsonAdaptedGeneration.class);
+        if (!jsonGeneration.isPresent()) {
+            throw new IOException("There is no backup taken at " + generation);
+        }
+
+        try {
+            List<Person> persons = new ArrayList<>();
+            for (String chunk : jsonGeneration.get().persons) {
+                for (String line : readChunk(chunk)) {
+                    persons.add(JsonUtil.fromJsonString(line, JsonAdaptedPerson.class).toModelType());
+                }
+            }
+            List<Task> tasks = new ArrayList<>();
+            for (String chunk : jsonGeneration.get().tasks) {
+                for (String line : readChunk(chunk)) {
+                    tasks.add(JsonUtil.fromJsonString(line, JsonAdaptedTask.class).toModelType());
+                }
+            }
+            return JsonSerializableTaskBook.buildTaskBook(persons, tasks);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves the chunks of {@code lines} that are not stored yet, and returns the hashes of all of them in order.
+     */
+    private List<String> saveChunks(List<String> lines) throws IOException {
+        List<String> hashes = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        int chunkRecordCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            chunk.append(line).append('\n');
+            chunkRecordCount++;
+            boolean isBoundary = (line.hashCode() & ((1 << CHUNK_BOUNDARY_BITS) - 1)) == 0;
+            if (isBoundary || chunkRecordCount == MAX_CHUNK_RECORDS || i == lines.size() - 1) {
+                hashes.add(saveChunk(chunk.toString()));
+                chunk.setLength(0);
+                chunkRecordCount = 0;
+            }
+        }
+        return hashes;
+    }
+
+    private String saveChunk(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(bytes);
+        Path chunkPath = getChunkPath(hash);
+        if (!Files.exists(chunkPath)) {
+            FileUtil.writeAtomically(chunkPath, file -> Files.write(file, bytes));
+        }
+        return hash;
+    }
+
+    private List<String> readChunk(String hash) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(getChunkPath(hash), StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Deletes the generations that are no longer kept as of {@code now}, and the chunks held by none of the others.
+     */
+    private void prune(Instant now) throws IOException {
+        List<Instant> generations = getGenerations();
+        LocalDate oldestKeptDay = LocalDate.ofInstant(now, clock.getZone()).minusDays(DAILY_GENERATIONS - 1);
+        Set<LocalDate> keptDays = new HashSet<>();
+        List<Instant> dropped = new ArrayList<>();
+        for (int i = 0; i < generations.size(); i++) {
+            LocalDate day = LocalDate.ofInstant(generations.get(i), clock.getZone());
+            boolean isNewestOfDay = !day.isBefore(oldestKeptDay) && keptDays.add(day);
+            if (i >= HOURLY_GENERATIONS && !isNewestOfDay) {
+                dropped.add(generations.get(i));
+            }
+        }
+        if (dropped.isEmpty()) {
+            return;
+        }
+        for (Instant generation : dropped) {
+            Files.deleteIfExists(getGenerationPath(generation));
+        }
+
+        Set<String> heldChunks = new HashSet<>();
+        for (Instant generation : generations) {
+            if (dropped.contains(generation)) {
+                continue;
+            }
+            // a generation that cannot be read may still hold any chunk, so none is deleted
+            try {
+                JsonAdaptedGeneration kept = JsonUtil.readJsonFile(getGenerationPath(generation),
+                        JsonAdaptedGeneration.class).orElseThrow(() -> new IOException("Missing " + generation));
+                heldChunks.addAll(kept.persons);
+                heldChunks.addAll(kept.tasks);
+            } catch (DataConversionException dce) {
+                throw new IOException("Unreadable backup generation " + generation, dce);
+            }
+        }
+        int deletedCount = 0;
+        try (DirectoryStream<Path> chunks = Files.newDirectoryStream(backupsDirectoryPath.resolve(CHUNKS_DIRECTORY),
+                "*" + CHUNK_EXTENSION)) {
+            for (Path chunk : chunks) {
+                String name = chunk.getFileName().toString();
+                if (!heldChunks.contains(name.substring(0, name.length() - CHUNK_EXTENSION.length()))) {
+                    Files.delete(chunk);
+                    deletedCount++;
+                }
+            }
+        }
+        logger.fine("Dropped " + dropped.size() + " backup generations and " + deletedCount + " chunks");
+    }
+
+    private Path getGenerationPath(Instant generation) {
+        return backupsDirectoryPath.resolve(GENERATIONS_DIRECTORY)
+                .resolve(generation.toEpochMilli() + GENERATION_EXTENSION);
+    }
+
+    private Path getChunkPath(String hash) {
+        return backupsDirectoryPath.resolve(CHUNKS_DIRECTORY).resolve(hash + CHUNK_EXTENSION);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance(HASH_ALGORITHM).digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a generation, as the hashes of the chunks holding its persons and its tasks.
+     */
+    static class JsonAdaptedGeneration {
+        private final List<String> persons = new ArrayList<>();
+        private final List<String> tasks = new ArrayList<>();
+
+        @JsonCreator
+        JsonAdaptedGeneration(@JsonProperty("persons") List<String> persons,
+                              @JsonProperty("tasks") List<String> tasks) {
+            if (persons != null) {
+                this.persons.addAll(persons);
+            }
+            if (tasks != null) {
+                this.tasks.addAll(tasks);
+            }
+        }
+    }
+}
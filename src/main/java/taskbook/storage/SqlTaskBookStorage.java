@@ -0,0 +1,453 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored in an SQLite database file on the hard disk.
+ * Persons, tasks and their tags are kept in separate tables, with the tasks indexed by name, date, done status and
+ * assignment. A save only inserts, updates or deletes the rows of the records that changed since the last save,
+ * all in one transaction, so a command that edits one task touches one row instead of rewriting the whole file.
+ * The schema is only created the first time the storage connects to a database.
+ *
+ * Records are stored with their positions in the person and task lists, spaced apart the same way as
+ * {@link SegmentedTaskBookStorage} does, so that the order of the lists is restored when the database is read back.
+ */
+public class SqlTaskBookStorage implements TaskBookStorage {
+
+    public static final String JDBC_URL_PREFIX = "jdbc:sqlite:";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlTaskBookStorage.class);
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons (name TEXT PRIMARY KEY, position INTEGER NOT NULL, phone TEXT,"
+                + " email TEXT, address TEXT)",
+        "CREATE TABLE IF NOT EXISTS person_tags (person_name TEXT NOT NULL, tag TEXT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tasks (id INTEGER PRIMARY KEY, position INTEGER NOT NULL, type TEXT NOT NULL,"
+                + " name TEXT, assignment TEXT, description TEXT, is_done INTEGER NOT NULL, date TEXT)",
+        "CREATE TABLE IF NOT EXISTS task_tags (task_id INTEGER NOT NULL, tag TEXT NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS person_tags_person ON person_tags (person_name)",
+        "CREATE INDEX IF NOT EXISTS task_tags_task ON task_tags (task_id)",
+        "CREATE INDEX IF NOT EXISTS tasks_name ON tasks (name)",
+        "CREATE INDEX IF NOT EXISTS tasks_date ON tasks (date)",
+        "CREATE INDEX IF NOT EXISTS tasks_is_done ON tasks (is_done)",
+        "CREATE INDEX IF NOT EXISTS tasks_assignment ON tasks (assignment)"
+    };
+
+    private final Path filePath;
+    /** The databases this storage has created the schema in, which it does not create again. */
+    private final Set<Path> databasesWithSchema = new HashSet<>();
+
+    // The records last read from or saved to filePath, their positions and, for tasks, their row ids
+    private List<Person> lastSavedPersons;
+    private long[] lastSavedPersonPositions;
+    private List<Task> lastSavedTasks;
+    private long[] lastSavedTaskPositions;
+    private long[] lastSavedTaskIds;
+    private long nextTaskId;
+
+    /**
+     * Creates a {@code SqlTaskBookStorage} that keeps its data in the database file at {@code filePath}.
+     */
+    public SqlTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if any row is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Database file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>();
+        List<Long> personPositions = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Long> taskPositions = new ArrayList<>();
+        List<Long> taskIds = new ArrayList<>();
+        ReadOnlyTaskBook taskBook;
+        try (Connection connection = connect(filePath)) {
+            Map<String, List<JsonAdaptedTag>> personTags =
+                    readTags(connection, "SELECT person_name, tag FROM person_tags");
+            try (Statement statement = connection.createStatement();
+                    ResultSet rows = statement.executeQuery(
+                            "SELECT name, position, phone, email, address FROM persons ORDER BY position")) {
+                while (rows.next()) {
+                    String name = rows.getString(1);
+                    persons.add(new JsonAdaptedPerson(name, rows.getString(3), rows.getString(4), rows.getString(5),
+                            personTags.getOrDefault(name, List.of())).toModelType());
+                    personPositions.add(rows.getLong(2));
+                }
+            }
+
+            Map<String, List<JsonAdaptedTag>> taskTags = readTags(connection, "SELECT task_id, tag FROM task_tags");
+            try (Statement statement = connection.createStatement();
+                    ResultSet rows = statement.executeQuery("SELECT id, position, type, name, assignment,"
+                            + " description, is_done, date FROM tasks ORDER BY position")) {
+                while (rows.next()) {
+                    tasks.add(toAdaptedTask(rows, taskTags.getOrDefault(rows.getString(1), List.of())).toModelType());
+                    taskPositions.add(rows.getLong(2));
+                    taskIds.add(rows.getLong(1));
+                }
+            }
+            taskBook = JsonSerializableTaskBook.buildTaskBook(persons, tasks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (SQLException e) {
+            databasesWithSchema.remove(filePath.toAbsolutePath());
+            throw new IOException("Could not read database " + filePath, e);
+        }
+
+        if (filePath.equals(this.filePath) && taskBook.getTaskList().size() == tasks.size()) {
+            // What is in the database is exactly what was read, so later saves can skip the unchanged rows.
+            lastSavedPersons = new ArrayList<>(taskBook.getPersonList());
+            lastSavedPersonPositions = personPositions.stream().mapToLong(Long::longValue).toArray();
+            lastSavedTasks = new ArrayList<>(taskBook.getTaskList());
+            lastSavedTaskPositions = taskPositions.stream().mapToLong(Long::longValue).toArray();
+            lastSavedTaskIds = taskIds.stream().mapToLong(Long::longValue).toArray();
+            nextTaskId = taskIds.stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        } else if (filePath.equals(this.filePath)) {
+            lastSavedTasks = null;
+        }
+        return Optional.of(taskBook);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only saves to the storage file after a read or save of it skip unchanged rows; other saves write every row.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(taskBook.getPersonList());
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        boolean isIncremental = filePath.equals(this.filePath) && lastSavedTasks != null && Files.exists(filePath);
+
+        long[] personPositions;
+        long[] taskPositions;
+        long[] taskIds = new long[tasks.size()];
+        long taskId = isIncremental ? nextTaskId : 1;
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Connection connection = connect(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                if (isIncremental) {
+                    personPositions = SegmentedTaskBookStorage.assignPositions(
+                            lastSavedPersons, lastSavedPersonPositions, persons);
+                    taskPositions = SegmentedTaskBookStorage.assignPositions(
+                            lastSavedTasks, lastSavedTaskPositions, tasks);
+                    savePersonChanges(connection, persons, personPositions);
+                    taskId = saveTaskChanges(connection, tasks, taskPositions, taskIds, taskId);
+                } else {
+                    personPositions = SegmentedTaskBookStorage.spacedPositions(persons.size());
+                    taskPositions = SegmentedTaskBookStorage.spacedPositions(tasks.size());
+                    try (Statement statement = connection.createStatement()) {
+                        for (String table : List.of("persons", "person_tags", "tasks", "task_tags")) {
+                            statement.executeUpdate("DELETE FROM " + table);
+                        }
+                    }
+                    for (int i = 0; i < persons.size(); i++) {
+                        insertPerson(connection, persons.get(i), personPositions[i]);
+                    }
+                    for (int i = 0; i < tasks.size(); i++) {
+                        taskIds[i] = taskId++;
+                        insertTask(connection, tasks.get(i), taskPositions[i], taskIds[i]);
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            // the database may have been replaced without the schema, so the next connection creates it again
+            databasesWithSchema.remove(filePath.toAbsolutePath());
+            if (filePath.equals(this.filePath)) {
+                // the database may not hold what was last saved anymore, so the next save writes every row
+                lastSavedTasks = null;
+            }
+            throw new IOException("Could not save to database " + filePath, e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            lastSavedPersons = persons;
+            lastSavedPersonPositions = personPositions;
+            lastSavedTasks = tasks;
+            lastSavedTaskPositions = taskPositions;
+            lastSavedTaskIds = taskIds;
+            nextTaskId = taskId;
+        }
+    }
+
+    /**
+     * Updates the person rows to {@code persons} at {@code positions}, touching only the rows of the persons that
+     * were added, edited, deleted or moved since the last save.
+     */
+    private void savePersonChanges(Connection connection, List<Person> persons, long[] positions)
+            throws SQLException {
+        Map<Person, Integer> savedIndexes = indexesOf(lastSavedPersons);
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName().fullName);
+        }
+        for (Person saved : lastSavedPersons) {
+            if (!names.contains(saved.getName().fullName)) {
+                deletePerson(connection, saved.getName().fullName);
+            }
+        }
+
+        int changedCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Integer savedIndex = savedIndexes.get(persons.get(i));
+            if (savedIndex == null) {
+                deletePerson(connection, persons.get(i).getName().fullName);
+                insertPerson(connection, persons.get(i), positions[i]);
+                changedCount++;
+            } else if (lastSavedPersonPositions[savedIndex] != positions[i]) {
+                updatePosition(connection, "UPDATE persons SET position = ? WHERE name = ?", positions[i],
+                        persons.get(i).getName().fullName);
+                changedCount++;
+            }
+        }
+        logger.fine("Wrote " + changedCount + " of " + persons.size() + " person rows of " + filePath);
+    }
+
+    /**
+     * Updates the task rows to {@code tasks} at {@code positions}, touching only the rows of the tasks that
+     * were added, edited, deleted or moved since the last save, and puts the row id of each task in {@code ids}.
+     *
+     * @return the row id to give the next task inserted.
+     */
+    private long saveTaskChanges(Connection connection, List<Task> tasks, long[] positions, long[] ids,
+            long nextId) throws SQLException {
+        Map<Task, Integer> savedIndexes = indexesOf(lastSavedTasks);
+        Set<Integer> keptIndexes = new HashSet<>();
+        for (Task task : tasks) {
+            Integer savedIndex = savedIndexes.get(task);
+            if (savedIndex != null) {
+                keptIndexes.add(savedIndex);
+            }
+        }
+        for (int i = 0; i < lastSavedTasks.size(); i++) {
+            if (!keptIndexes.contains(i)) {
+                deleteTask(connection, lastSavedTaskIds[i]);
+            }
+        }
+
+        int changedCount = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Integer savedIndex = savedIndexes.get(tasks.get(i));
+            if (savedIndex == null) {
+                ids[i] = nextId++;
+                insertTask(connection, tasks.get(i), positions[i], ids[i]);
+                changedCount++;
+                continue;
+            }
+            ids[i] = lastSavedTaskIds[savedIndex];
+            if (lastSavedTaskPositions[savedIndex] != positions[i]) {
+                updatePosition(connection, "UPDATE tasks SET position = ? WHERE id = ?", positions[i], ids[i]);
+                changedCount++;
+            }
+        }
+        logger.fine("Wrote " + changedCount + " of " + tasks.size() + " task rows of " + filePath);
+        return nextId;
+    }
+
+    private static <T> Map<T, Integer> indexesOf(List<T> records) {
+        Map<T, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            indexes.put(records.get(i), i);
+        }
+        return indexes;
+    }
+
+    private static void insertPerson(Connection connection, Person person, long position) throws SQLException {
+        String name = person.getName().fullName;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO persons (name, position, phone, email, address) VALUES (?, ?, ?, ?, ?)")) {
+            statement.setString(1, name);
+            statement.setLong(2, position);
+            statement.setString(3, person.getPhone().value);
+            statement.setString(4, person.getEmail().value);
+            statement.setString(5, person.getAddress().value);
+            statement.executeUpdate();
+        }
+        insertTags(connection, "INSERT INTO person_tags (person_name, tag) VALUES (?, ?)", name, person.getTags());
+    }
+
+    private static void deletePerson(Connection connection, String name) throws SQLException {
+        for (String sql : List.of("DELETE FROM person_tags WHERE person_name = ?",
+                "DELETE FROM persons WHERE name = ?")) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, name);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private static void insertTask(Connection connection, Task task, long position, long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO tasks (id, position, type, name,"
+                + " assignment, description, is_done, date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            statement.setLong(1, id);
+            statement.setLong(2, position);
+            statement.setString(3, task.getClass().getSimpleName());
+            statement.setString(4, task.getName().fullName);
+            statement.setString(5, task.getAssignment().name());
+            statement.setString(6, task.getDescription().description);
+            statement.setInt(7, task.isDone() ? 1 : 0);
+            statement.setString(8, task.hasDate() ? task.getDate().toString() : null);
+            statement.executeUpdate();
+        }
+        insertTags(connection, "INSERT INTO task_tags (task_id, tag) VALUES (?, ?)", id, task.getTags());
+    }
+
+    private static void deleteTask(Connection connection, long id) throws SQLException {
+        for (String sql : List.of("DELETE FROM task_tags WHERE task_id = ?", "DELETE FROM tasks WHERE id = ?")) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private static void insertTags(Connection connection, String sql, Object owner, Set<Tag> tags)
+            throws SQLException {
+        if (tags.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Tag tag : tags) {
+                statement.setObject(1, owner);
+                statement.setString(2, tag.tagName);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void updatePosition(Connection connection, String sql, long position, Object key)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, position);
+            statement.setObject(2, key);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the tags selected by {@code sql}, which selects an owner key and a tag name, by owner key.
+     */
+    private static Map<String, List<JsonAdaptedTag>> readTags(Connection connection, String sql)
+            throws SQLException {
+        Map<String, List<JsonAdaptedTag>> tags = new HashMap<>();
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(sql)) {
+            while (rows.next()) {
+                tags.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(rows.getString(2)));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the task in the current row of {@code rows}, which selects the columns of the tasks table in order.
+     */
+    private static JsonAdaptedTask toAdaptedTask(ResultSet rows, List<JsonAdaptedTag> tags)
+            throws SQLException, IllegalValueException {
+        String type = rows.getString(3);
+        String name = rows.getString(4);
+        String assignment = rows.getString(5);
+        String description = rows.getString(6);
+        boolean isDone = rows.getInt(7) != 0;
+        String date = rows.getString(8);
+        switch (type) {
+        case "Todo":
+            return new JsonAdaptedTodo(name, assignment, description, isDone, tags);
+        case "Deadline":
+            return new JsonAdaptedDeadline(name, assignment, description, isDone, date, tags);
+        case "Event":
+            return new JsonAdaptedEvent(name, assignment, description, isDone, date, tags);
+        default:
+            throw new IllegalValueException("Unknown task type: " + type);
+        }
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, creating its schema first if this storage has not
+     * created it there yet, or if the database file does not exist.
+     */
+    private Connection connect(Path filePath) throws SQLException {
+        Path database = filePath.toAbsolutePath();
+        boolean needsSchema = !databasesWithSchema.contains(database) || !Files.exists(database);
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + database);
+        if (!needsSchema) {
+            return connection;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.executeUpdate(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        databasesWithSchema.add(database);
+        return connection;
+    }
+}
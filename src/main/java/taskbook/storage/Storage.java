@@ -3,6 +3,7 @@ package taskbook.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import taskbook.commons.exceptions.DataConversionException;
 import taskbook.model.ReadOnlyTaskBook;
@@ -29,4 +30,44 @@ public interface Storage extends TaskBookStorage, UserPrefsStorage {
     @Override
     void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
+    /**
+     * Schedules {@code taskBook} to be saved in the background if background saving is enabled,
+     * or saves it right away otherwise.
+     * @throws IOException if the task book was saved right away and there was any problem writing to the file.
+     */
+    void scheduleSaveTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
+
+    /**
+     * Writes any task book saves still pending in the background and waits for them to finish.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTaskBook() throws IOException;
+
+    /**
+     * Notes that the task book file was changed by something other than this storage, so that the next save is
+     * written even if the task book is unchanged since it was last saved.
+     */
+    void notifyTaskBookChangedExternally();
+
+    /**
+     * Returns the number of task book saves skipped because the task book was unchanged since it was last saved.
+     */
+    long getSkippedTaskBookWriteCount();
+
+    /**
+     * Returns the number of task book saves written to storage.
+     */
+    long getPerformedTaskBookWriteCount();
+
+    /**
+     * Returns how long the latest background write of the task book took, in milliseconds,
+     * or empty if the task book is not saved in the background or has not been written yet.
+     */
+    Optional<Long> getLastTaskBookWriteLatencyMillis();
+
+    /**
+     * Sets the handler notified, on the background thread, whenever a background save fails.
+     */
+    void setBackgroundSaveFailureHandler(Consumer<IOException> handler);
+
 }
@@ -2,7 +2,9 @@ package taskbook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import taskbook.commons.core.LogsCenter;
@@ -17,17 +19,29 @@ import taskbook.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TaskBookStorage taskBookStorage;
+    private ContentHashingTaskBookStorage taskBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundTaskBookSaver backgroundSaver;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TaskBookStorage} and {@code UserPrefStorage}.
+     * Task book saves are written right away, unless the task book is unchanged since it was last saved.
      */
     public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage) {
-        this.taskBookStorage = taskBookStorage;
+        this.taskBookStorage = new ContentHashingTaskBookStorage(taskBookStorage);
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given {@code TaskBookStorage} and {@code UserPrefStorage}
+     * that saves the task book in the background, leaving changes unwritten for at most {@code maxStalenessMillis}.
+     */
+    public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage,
+                          long maxStalenessMillis) {
+        this(taskBookStorage, userPrefsStorage);
+        this.backgroundSaver = new BackgroundTaskBookSaver(this.taskBookStorage, maxStalenessMillis);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -53,6 +67,11 @@ public class StorageManager implements Storage {
         return taskBookStorage.getTaskBookFilePath();
     }
 
+    @Override
+    public List<Path> getDataFilePaths() {
+        return taskBookStorage.getDataFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
         return readTaskBook(taskBookStorage.getTaskBookFilePath());
@@ -66,7 +85,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
-        saveTaskBook(taskBook, taskBookStorage.getTaskBookFilePath());
+        if (backgroundSaver == null) {
+            saveTaskBook(taskBook, taskBookStorage.getTaskBookFilePath());
+            return;
+        }
+
+        // Go through the background saver so that this save is not overwritten by an older pending one.
+        backgroundSaver.save(taskBook);
+        backgroundSaver.flush();
     }
 
     @Override
@@ -75,4 +101,49 @@ public class StorageManager implements Storage {
         taskBookStorage.saveTaskBook(taskBook, filePath);
     }
 
+    @Override
+    public void scheduleSaveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        if (backgroundSaver == null) {
+            saveTaskBook(taskBook);
+            return;
+        }
+
+        backgroundSaver.save(taskBook);
+        logger.fine("Task book saves waiting in the background: " + backgroundSaver.getQueueDepth());
+    }
+
+    @Override
+    public void flushTaskBook() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
+
+    @Override
+    public void notifyTaskBookChangedExternally() {
+        taskBookStorage.forgetLastSave();
+    }
+
+    @Override
+    public long getSkippedTaskBookWriteCount() {
+        return taskBookStorage.getSkippedWriteCount();
+    }
+
+    @Override
+    public long getPerformedTaskBookWriteCount() {
+        return taskBookStorage.getPerformedWriteCount();
+    }
+
+    @Override
+    public Optional<Long> getLastTaskBookWriteLatencyMillis() {
+        return backgroundSaver == null ? Optional.empty() : backgroundSaver.getLastWriteLatencyMillis();
+    }
+
+    @Override
+    public void setBackgroundSaveFailureHandler(Consumer<IOException> handler) {
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureHandler(handler);
+        }
+    }
+
 }
@@ -0,0 +1,123 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+
+/**
+ * Converts task book files between the json, the binary, the segmented and the database format.
+ * Json stays the format for importing and exporting task books, whichever format the app stores them in.
+ */
+public class TaskBookConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".tbk";
+    public static final String SEGMENTS_DIRECTORY_EXTENSION = ".segments";
+    public static final String ARCHIVE_FILE_EXTENSION = ".archive.jsonl";
+    public static final String DATABASE_FILE_EXTENSION = ".db";
+    public static final String BACKUPS_DIRECTORY_EXTENSION = ".backups";
+
+    private static final Logger logger = LogsCenter.getLogger(TaskBookConverter.class);
+
+    /**
+     * Copies the task book in {@code source} into {@code target}.
+     *
+     * @return false if there is no task book in {@code source}.
+     * @throws DataConversionException if the task book in {@code source} is not in the correct format.
+     */
+    public static boolean convert(TaskBookStorage source, TaskBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyTaskBook> taskBook = source.readTaskBook();
+        if (!taskBook.isPresent()) {
+            return false;
+        }
+        logger.info("Converting task book " + source.getTaskBookFilePath() + " to " + target.getTaskBookFilePath());
+        target.saveTaskBook(taskBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the json task book at {@code jsonFilePath} into a binary task book at {@code binaryFilePath}.
+     *
+     * @return false if there is no task book at {@code jsonFilePath}.
+     */
+    public static boolean jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        return convert(new JsonTaskBookStorage(jsonFilePath), new BinaryTaskBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary task book at {@code binaryFilePath} into a json task book at {@code jsonFilePath}.
+     * The binary task book is memory-mapped and streamed into the json file one record at a time,
+     * so that even very large task books can be exported without loading them whole.
+     *
+     * @return false if there is no task book at {@code binaryFilePath}.
+     */
+    public static boolean binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskBook> taskBook = new BinaryTaskBookStorage(binaryFilePath)
+                .readTaskBookMapped(binaryFilePath);
+        if (!taskBook.isPresent()) {
+            return false;
+        }
+
+        logger.info("Converting task book " + binaryFilePath + " to " + jsonFilePath);
+        try {
+            new JsonTaskBookStorage(jsonFilePath).saveTaskBook(taskBook.get());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // thrown by the mapped task book when it meets an invalid record
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the path of the binary task book kept next to the json task book at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the directory of segments kept next to the json task book at {@code jsonFilePath}.
+     */
+    public static Path getSegmentsDirectoryPath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + SEGMENTS_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the database kept next to the json task book at {@code jsonFilePath}.
+     */
+    public static Path getDatabaseFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + DATABASE_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the task archive kept next to the json task book at {@code jsonFilePath}.
+     */
+    public static Path getArchiveFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + ARCHIVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the directory of backups kept next to the json task book at {@code jsonFilePath}.
+     */
+    public static Path getBackupsDirectoryPath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + BACKUPS_DIRECTORY_EXTENSION);
+    }
+
+    private static String getBaseName(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+}
@@ -0,0 +1,55 @@
+package taskbook.storage;
+
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * An immutable copy of the lists of a task book, safe to read from other threads and to keep without copying.
+ */
+class TaskBookSnapshot implements ReadOnlyTaskBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Task> tasks;
+
+    private TaskBookSnapshot(ReadOnlyTaskBook source) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        tasks = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getTaskList()));
+    }
+
+    /**
+     * Returns an immutable copy of {@code taskBook}, or {@code taskBook} itself if it is already one.
+     */
+    static TaskBookSnapshot of(ReadOnlyTaskBook taskBook) {
+        return taskBook instanceof TaskBookSnapshot ? (TaskBookSnapshot) taskBook : new TaskBookSnapshot(taskBook);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskBookSnapshot // instanceof handles nulls
+                && persons.equals(((TaskBookSnapshot) other).persons)
+                && tasks.equals(((TaskBookSnapshot) other).tasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, tasks);
+    }
+}
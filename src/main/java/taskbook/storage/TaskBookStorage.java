@@ -2,6 +2,7 @@ package taskbook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import taskbook.commons.exceptions.DataConversionException;
@@ -18,6 +19,14 @@ public interface TaskBookStorage {
      */
     Path getTaskBookFilePath();
 
+    /**
+     * Returns the files that the task book at {@link #getTaskBookFilePath()} is read from, all in one directory.
+     * Backups and temporary files are not included.
+     */
+    default List<Path> getDataFilePaths() {
+        return List.of(getTaskBookFilePath());
+    }
+
     /**
      * Returns TaskBook data as a {@link ReadOnlyTaskBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
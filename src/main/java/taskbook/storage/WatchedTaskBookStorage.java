@@ -0,0 +1,239 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.util.StringUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+
+/**
+ * A {@code TaskBookStorage} that notices when its data files are changed by anything other than itself,
+ * such as another tool or a second instance of TaskBook, and reports what changed.
+ *
+ * Every task book read from or saved to the storage is remembered as an immutable snapshot, together with the size
+ * and modification time of the data files named by {@link TaskBookStorage#getDataFilePaths()}. Once watching has
+ * started, a change to those files that this storage did not make is read back, and if the task book read differs
+ * from the one remembered, both are passed to the listener.
+ */
+public class WatchedTaskBookStorage implements TaskBookStorage, Closeable {
+
+    /** How long to wait for a burst of file events to settle before reading the data files. */
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedTaskBookStorage.class);
+
+    /**
+     * Receives the changes made to the data files by others.
+     */
+    @FunctionalInterface
+    public interface ExternalChangeListener {
+        /**
+         * Called on the watching thread when the task book in storage changed from {@code base},
+         * the task book last read or saved by this storage, to {@code changed}.
+         */
+        void onExternalChange(ReadOnlyTaskBook base, ReadOnlyTaskBook changed);
+    }
+
+    private final TaskBookStorage storage;
+    private final List<Path> dataFilePaths;
+
+    private TaskBookSnapshot lastKnownTaskBook;
+    private Map<String, List<Object>> lastKnownFileStates;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code WatchedTaskBookStorage} that reads and saves through {@code storage}.
+     */
+    public WatchedTaskBookStorage(TaskBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.dataFilePaths = storage.getDataFilePaths();
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return dataFilePaths;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook(Path filePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskBook> taskBook = storage.readTaskBook(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            remember(taskBook.orElse(null));
+        }
+        return taskBook;
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        storage.saveTaskBook(taskBook, filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            remember(taskBook);
+        }
+    }
+
+    /**
+     * Starts watching the data files on a background thread, reporting changes made by others to {@code listener}.
+     *
+     * @throws IOException if the directory of the data files cannot be watched.
+     */
+    public synchronized void startWatching(ExternalChangeListener listener) throws IOException {
+        requireNonNull(listener);
+        if (watchService != null) {
+            return;
+        }
+
+        Path directory = getWatchedDirectory();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        WatchService service = watchService;
+        Thread watcher = new Thread(() -> watch(service, listener), "TaskBook file watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Stops watching the data files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private void watch(WatchService service, ExternalChangeListener listener) {
+        try {
+            while (true) {
+                if (!hasDataFileEvent(service.take())) {
+                    continue;
+                }
+                Thread.sleep(SETTLE_MILLIS);
+                for (WatchKey key = service.poll(); key != null; key = service.poll()) {
+                    hasDataFileEvent(key);
+                }
+                checkForExternalChange(listener);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + getTaskBookFilePath());
+        }
+    }
+
+    private boolean hasDataFileEvent(WatchKey key) {
+        boolean hasDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            hasDataFileEvent |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || context instanceof Path && isDataFile((Path) context);
+        }
+        key.reset();
+        return hasDataFileEvent;
+    }
+
+    /**
+     * Reads the data files if they changed since they were last read or saved, and reports the change to
+     * {@code listener} if the task book read differs from the one last read or saved.
+     */
+    void checkForExternalChange(ExternalChangeListener listener) {
+        ReadOnlyTaskBook base;
+        ReadOnlyTaskBook changed;
+        synchronized (this) {
+            try {
+                if (getFileStates().equals(lastKnownFileStates)) {
+                    return;
+                }
+                TaskBookSnapshot previous = lastKnownTaskBook == null
+                        ? TaskBookSnapshot.of(new TaskBook())
+                        : lastKnownTaskBook;
+                Optional<ReadOnlyTaskBook> read = storage.readTaskBook();
+                remember(read.orElse(null));
+                if (!read.isPresent() || lastKnownTaskBook.equals(previous)) {
+                    return;
+                }
+                base = previous;
+                changed = lastKnownTaskBook;
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Ignoring unreadable change to " + getTaskBookFilePath() + ": "
+                        + StringUtil.getDetails(e));
+                return;
+            }
+        }
+        logger.info("Task book changed outside of the app: " + getTaskBookFilePath());
+        listener.onExternalChange(base, changed);
+    }
+
+    /**
+     * Remembers {@code taskBook} without copying it if it is already an immutable snapshot, as the task books
+     * saved in the background are.
+     */
+    private void remember(ReadOnlyTaskBook taskBook) throws IOException {
+        lastKnownTaskBook = taskBook == null ? null : TaskBookSnapshot.of(taskBook);
+        lastKnownFileStates = getFileStates();
+    }
+
+    /**
+     * Returns the size and modification time of each data file that exists, by file name.
+     */
+    private Map<String, List<Object>> getFileStates() throws IOException {
+        Map<String, List<Object>> states = new TreeMap<>();
+        for (Path file : dataFilePaths) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                states.put(file.getFileName().toString(), List.of(attributes.size(), attributes.lastModifiedTime()));
+            } catch (NoSuchFileException e) {
+                // A data file that does not exist has no state.
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Returns the directory holding the data files.
+     */
+    private Path getWatchedDirectory() {
+        return dataFilePaths.get(0).toAbsolutePath().getParent();
+    }
+
+    private boolean isDataFile(Path fileName) {
+        return dataFilePaths.stream().anyMatch(file -> file.getFileName().equals(fileName));
+    }
+}
@@ -1,15 +1,22 @@
 package taskbook.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import taskbook.testutil.Assert;
 
 public class CollectionUtilTest {
@@ -82,6 +89,59 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void applyChanges_changedElements_onlyChangedElementsTouched() {
+        // elements are identified by their first letter
+        Function<String, Character> identityOf = element -> element.charAt(0);
+        List<String> base = List.of("a1", "b1", "c1", "d1");
+        List<String> changed = List.of("a1", "b2", "d1", "e1");
+        ObservableList<String> list = FXCollections.observableArrayList("a1", "b1", "c1", "d1", "x1");
+        List<String> touched = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                touched.addAll(change.getRemoved());
+                touched.addAll(change.getAddedSubList());
+            }
+        });
+
+        assertEquals(3, CollectionUtil.applyChanges(list, base, changed, identityOf));
+        assertEquals(List.of("a1", "b2", "d1", "x1", "e1"), list);
+        assertEquals(Set.of("b1", "b2", "c1", "e1"), Set.copyOf(touched));
+    }
+
+    @Test
+    public void applyChanges_elementAlsoChangedInList_changedElementKept() {
+        List<String> list = new ArrayList<>(List.of("a2", "b1"));
+        assertEquals(0, CollectionUtil.applyChanges(list, List.of("a1", "b1"), List.of("a1", "b1"),
+                element -> element.charAt(0)));
+        assertEquals(List.of("a2", "b1"), list);
+    }
+
+    @Test
+    public void setAllChanged_middleChanged_onlyMiddleTouched() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        List<String> touched = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                touched.addAll(change.getRemoved());
+                touched.addAll(change.getAddedSubList());
+            }
+        });
+
+        assertEquals(4, CollectionUtil.setAllChanged(list, List.of("a", "b", "x", "y", "e")));
+        assertEquals(List.of("a", "b", "x", "y", "e"), list);
+        assertEquals(Set.of("c", "d", "x", "y"), Set.copyOf(touched));
+    }
+
+    @Test
+    public void setAllChanged_repeatedElements_replacedCorrectly() {
+        List<String> list = new ArrayList<>(List.of("a", "a", "a"));
+        assertEquals(1, CollectionUtil.setAllChanged(list, List.of("a", "a")));
+        assertEquals(List.of("a", "a"), list);
+        assertEquals(5, CollectionUtil.setAllChanged(list, List.of("b", "a", "b")));
+        assertEquals(List.of("b", "a", "b"), list);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,14 +1,25 @@
 package taskbook.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import taskbook.testutil.Assert;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +32,41 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomicallyKeepingBackup_existingFile_keptAsBackup() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeAtomicallyKeepingBackup(file, temp -> Files.write(temp, "first".getBytes()));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeAtomicallyKeepingBackup(file, temp -> Files.write(temp, "second".getBytes()));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, temp -> {
+            Files.write(temp, "partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void newInputStream_compressedOrPlainFile_readsContent() throws Exception {
+        for (String fileName : new String[] {"file.txt", "file.txt.gz"}) {
+            Path file = testFolder.resolve(fileName);
+            try (OutputStream out = FileUtil.newOutputStream(file, FileUtil.isCompressedPath(file))) {
+                out.write("content".getBytes());
+            }
+            try (InputStream in = FileUtil.newInputStream(file)) {
+                assertEquals("content", new String(in.readAllBytes()));
+            }
+        }
+        assertEquals(testFolder.resolve("file.txt.gz"), FileUtil.getCompressedPath(testFolder.resolve("file.txt")));
+    }
+
 }
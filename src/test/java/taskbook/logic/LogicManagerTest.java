@@ -87,6 +87,21 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_success() throws Exception {
+        // Setup LogicManager with JsonTaskBookIoExceptionThrowingStub
+        JsonTaskBookStorage taskBookStorage =
+                new JsonTaskBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptiontaskBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(taskBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // Read-only commands should not attempt to save the task book
+        String listCommand = ContactCategoryParser.CATEGORY_WORD + " " + ContactListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ContactListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,79 @@
+package taskbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.core.Messages;
+import taskbook.commons.core.index.Index;
+import taskbook.logic.commands.backups.BackupListCommand;
+import taskbook.logic.commands.backups.BackupRestoreCommand;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.TaskBook;
+import taskbook.model.UserPrefs;
+import taskbook.storage.JsonTaskArchiveStorage;
+import taskbook.storage.JsonTaskBookStorage;
+import taskbook.storage.SnapshotTaskBookStorage;
+import taskbook.testutil.TypicalTaskBook;
+
+public class BackupRestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private SnapshotTaskBookStorage createBackups() {
+        return new SnapshotTaskBookStorage(new JsonTaskBookStorage(testFolder.resolve("taskbook.json")),
+                testFolder.resolve("taskbook.backups"));
+    }
+
+    private Model createModel(TaskBook taskBook, SnapshotTaskBookStorage backups) {
+        return new ModelManager(taskBook, new UserPrefs(),
+                new JsonTaskArchiveStorage(testFolder.resolve("taskbook.archive.jsonl")), backups);
+    }
+
+    @Test
+    public void execute_backupTaken_restoredAndUndoable() throws Exception {
+        SnapshotTaskBookStorage backups = createBackups();
+        backups.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        Instant generation = backups.getGenerations().get(0);
+
+        Model model = createModel(new TaskBook(), backups);
+        Model expectedModel = createModel(new TaskBook(), backups);
+        expectedModel.setTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        expectedModel.commitTaskBook();
+
+        assertCommandSuccess(new BackupRestoreCommand(Index.fromOneBased(1)), model,
+                String.format(BackupRestoreCommand.MESSAGE_SUCCESS,
+                        BackupListCommand.GENERATION_FORMATTER.format(generation)), expectedModel);
+
+        model.undoTaskBook();
+        assertEquals(new TaskBook(), model.getTaskBook());
+    }
+
+    @Test
+    public void execute_indexPastBackups_failure() {
+        Model model = createModel(new TaskBook(), createBackups());
+        assertCommandFailure(new BackupRestoreCommand(Index.fromOneBased(1)), model,
+                Messages.MESSAGE_INVALID_BACKUP_INDEX);
+    }
+
+    @Test
+    public void executeList_noBackups_noBackupsMessage() throws Exception {
+        Model model = new ModelManager(new TaskBook(), new UserPrefs());
+        assertEquals(BackupListCommand.MESSAGE_NO_BACKUPS, new BackupListCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        BackupRestoreCommand restoreFirst = new BackupRestoreCommand(Index.fromOneBased(1));
+        assertEquals(restoreFirst, new BackupRestoreCommand(Index.fromOneBased(1)));
+        assertEquals(false, restoreFirst.equals(new BackupRestoreCommand(Index.fromOneBased(2))));
+    }
+}
@@ -0,0 +1,107 @@
+package taskbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.logic.commands.contacts.ContactImportCommand;
+import taskbook.logic.parser.contacts.ContactFileParser;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.UserPrefs;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.testutil.TypicalTaskBook;
+
+public class ContactImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+
+    @Test
+    public void execute_csvFile_validRowsImported() throws Exception {
+        Path filePath = testFolder.resolve("team.csv");
+        Files.writeString(filePath, "Name,Phone,Email,Address,Tags\n"
+                + "Zed Tan,9123 4567,zed@example.com,\"1 Main St, #01-01\",friend colleague\n"
+                + "Yan Ling,,,,\n"
+                + "Bad Phone,12,,,\n"
+                + TypicalTaskBook.ALICE.getName() + ",,,,\n"
+                + "Zed Tan,,,,\n");
+        int personCount = model.getTaskBook().getPersonList().size();
+
+        CommandResult result = new ContactImportCommand(filePath).execute(model);
+        assertEquals(String.format(ContactImportCommand.MESSAGE_SUCCESS, 2, filePath)
+                + String.format(ContactImportCommand.MESSAGE_REJECTED, 3)
+                + "\n" + String.format(ContactFileParser.MESSAGE_REJECTED_ROW, 4, Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ContactFileParser.MESSAGE_REJECTED_ROW, 5,
+                        String.format(ContactFileParser.MESSAGE_DUPLICATE_NAME, TypicalTaskBook.ALICE.getName()))
+                + "\n" + String.format(ContactFileParser.MESSAGE_REJECTED_ROW, 6,
+                        String.format(ContactFileParser.MESSAGE_DUPLICATE_NAME, "Zed Tan")),
+                result.getFeedbackToUser());
+
+        List<Person> persons = model.getTaskBook().getPersonList();
+        assertEquals(personCount + 2, persons.size());
+        assertEquals(new Person(new Name("Zed Tan"), new Phone("91234567"), new Email("zed@example.com"),
+                new Address("1 Main St, #01-01"), Set.of(new Tag("friend"), new Tag("colleague"))),
+                persons.get(personCount));
+        assertEquals(new Person(new Name("Yan Ling"), new Phone(Phone.NO_PHONE_PROVIDED),
+                new Email(Email.NO_EMAIL_PROVIDED), new Address(Address.NO_ADDRESS_PROVIDED), Set.of()),
+                persons.get(personCount + 1));
+
+        // the whole import is undone in one step
+        model.undoTaskBook();
+        assertEquals(personCount, model.getTaskBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_vcardFile_cardsImported() throws Exception {
+        Path filePath = testFolder.resolve("team.vcf");
+        Files.writeString(filePath, "BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "N:Tan;Zed;;;\r\n"
+                + "TEL;TYPE=cell:912-34567\r\n"
+                + "item1.EMAIL:zed@exam\r\n"
+                + " ple.com\r\n"
+                + "ADR;TYPE=home:;;1 Main St\\, #01-01;Singapore;;123456;\r\n"
+                + "CATEGORIES:friend,colleague\r\n"
+                + "END:VCARD\r\n");
+        int personCount = model.getTaskBook().getPersonList().size();
+
+        CommandResult result = new ContactImportCommand(filePath).execute(model);
+        assertEquals(String.format(ContactImportCommand.MESSAGE_SUCCESS, 1, filePath), result.getFeedbackToUser());
+        assertEquals(new Person(new Name("Zed Tan"), new Phone("91234567"), new Email("zed@example.com"),
+                new Address("1 Main St, #01-01, Singapore, 123456"), Set.of(new Tag("friend"), new Tag("colleague"))),
+                model.getTaskBook().getPersonList().get(personCount));
+    }
+
+    @Test
+    public void execute_noValidRows_nothingCommitted() throws Exception {
+        Path filePath = testFolder.resolve("team.csv");
+        Files.writeString(filePath, "name\n\n");
+
+        new ContactImportCommand(filePath).execute(model);
+        assertFalse(model.canUndoTaskBook());
+    }
+
+    @Test
+    public void execute_csvWithoutHeader_failure() throws Exception {
+        Path filePath = testFolder.resolve("team.csv");
+        Files.writeString(filePath, "Zed Tan,91234567\n");
+        assertCommandFailure(new ContactImportCommand(filePath), model, String.format(
+                ContactImportCommand.MESSAGE_IMPORT_FAILED, filePath, ContactFileParser.MESSAGE_MISSING_HEADER));
+    }
+}
@@ -0,0 +1,62 @@
+package taskbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.logic.commands.categoryless.ExportCommand;
+import taskbook.logic.commands.exceptions.CommandException;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.UserPrefs;
+import taskbook.storage.JsonLinesTaskBookFile;
+import taskbook.testutil.TypicalTaskBook;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_typicalTaskBook_oneLinePerRecord() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("export.jsonl");
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        int personCount = model.getTaskBook().getPersonList().size();
+        int taskCount = model.getTaskBook().getTaskList().size();
+
+        CommandResult result = new ExportCommand(filePath).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, personCount, taskCount, filePath),
+                result.getFeedbackToUser());
+        assertEquals(personCount + taskCount, Files.readAllLines(filePath).size());
+
+        JsonLinesTaskBookFile.Records records = JsonLinesTaskBookFile.read(filePath);
+        assertEquals(model.getTaskBook().getPersonList(), records.getPersons());
+        assertEquals(model.getTaskBook().getTaskList(), records.getTasks());
+        assertFalse(model.canUndoTaskBook());
+    }
+
+    @Test
+    public void execute_unwritablePath_failure() throws Exception {
+        Path notADirectory = Files.createFile(testFolder.resolve("file"));
+        Path filePath = notADirectory.resolve("export.jsonl");
+
+        CommandException thrown = assertThrows(CommandException.class, () ->
+                new ExportCommand(filePath).execute(new ModelManager()));
+        assertTrue(thrown.getMessage().startsWith(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, filePath, "")));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("export.jsonl"));
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("export.jsonl"))));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("other.jsonl"))));
+        assertFalse(exportCommand.equals(null));
+    }
+}
@@ -0,0 +1,97 @@
+package taskbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.logic.commands.categoryless.ExportCommand;
+import taskbook.logic.commands.categoryless.ImportCommand;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.TaskBook;
+import taskbook.model.UserPrefs;
+import taskbook.storage.JsonLinesTaskBookFile;
+import taskbook.testutil.TypicalTaskBook;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_exportedFile_importedAsOneUndoStep() throws Exception {
+        Path filePath = testFolder.resolve("export.jsonl");
+        TaskBook typicalTaskBook = TypicalTaskBook.getTypicalTaskBook();
+        new ExportCommand(filePath).execute(new ModelManager(typicalTaskBook, new UserPrefs()));
+
+        Model model = new ModelManager();
+        CommandResult result = new ImportCommand(filePath).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, typicalTaskBook.getPersonList().size(),
+                typicalTaskBook.getTaskList().size(), filePath), result.getFeedbackToUser());
+        assertEquals(typicalTaskBook, new TaskBook(model.getTaskBook()));
+
+        model.undoTaskBook();
+        assertEquals(new TaskBook(), new TaskBook(model.getTaskBook()));
+        assertFalse(model.canUndoTaskBook());
+    }
+
+    @Test
+    public void execute_recordsAlreadyPresent_skipped() throws Exception {
+        Path filePath = testFolder.resolve("export.jsonl");
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        new ExportCommand(filePath).execute(model);
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+        int recordCount = model.getTaskBook().getPersonList().size() + model.getTaskBook().getTaskList().size();
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 0, 0, filePath)
+                + String.format(ImportCommand.MESSAGE_SKIPPED, recordCount, 0), result.getFeedbackToUser());
+        assertFalse(model.canUndoTaskBook());
+    }
+
+    @Test
+    public void execute_invalidLine_nothingImported() throws Exception {
+        Path filePath = testFolder.resolve("export.jsonl");
+        new ExportCommand(filePath).execute(new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs()));
+        Files.writeString(filePath, Files.readString(filePath) + "{}\n");
+
+        Model model = new ModelManager();
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_IMPORT_FAILED,
+                filePath, "Line " + (Files.readAllLines(filePath).size()) + ": "
+                        + "A line must hold either a person or a task."));
+    }
+
+    @Test
+    public void execute_nullLine_nothingImported() throws Exception {
+        Path filePath = testFolder.resolve("export.jsonl");
+        new ExportCommand(filePath).execute(new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs()));
+        Files.writeString(filePath, Files.readString(filePath) + "null\n");
+
+        Model model = new ModelManager();
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_IMPORT_FAILED,
+                filePath, "Line " + (Files.readAllLines(filePath).size()) + ": "
+                        + JsonLinesTaskBookFile.MESSAGE_EMPTY_LINE));
+    }
+
+    @Test
+    public void execute_malformedUtf8_failure() throws Exception {
+        Path filePath = testFolder.resolve("export.jsonl");
+        Files.write(filePath, new byte[] {'{', (byte) 0xC3, (byte) 0x28, '}', '\n'});
+
+        assertCommandFailure(new ImportCommand(filePath), new ModelManager(), String.format(
+                ImportCommand.MESSAGE_IMPORT_FAILED, filePath, new MalformedInputException(1).getMessage()));
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.jsonl");
+        assertCommandFailure(new ImportCommand(filePath), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+}
@@ -0,0 +1,133 @@
+package taskbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.logic.commands.tasks.TaskArchiveCommand;
+import taskbook.logic.commands.tasks.TaskArchivedCommand;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.UserPrefs;
+import taskbook.model.task.Task;
+import taskbook.model.task.enums.Assignment;
+import taskbook.storage.JsonTaskArchiveStorage;
+import taskbook.testutil.EventBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class TaskArchiveCommandTest {
+
+    private static final LocalDate NOV_ONE = LocalDate.of(2022, 11, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model createModel() {
+        return new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs(),
+                new JsonTaskArchiveStorage(testFolder.resolve("taskbook.archive.jsonl")));
+    }
+
+    @Test
+    public void execute_doneTasksBeforeDate_archived() throws Exception {
+        Model model = createModel();
+        Model expectedModel = createModel();
+        expectedModel.deleteTask(TypicalTaskBook.PARTYING);
+        expectedModel.commitTaskBook();
+
+        assertCommandSuccess(new TaskArchiveCommand(NOV_ONE), model,
+                String.format(TaskArchiveCommand.MESSAGE_SUCCESS, 1), expectedModel);
+        assertEquals(List.of(TypicalTaskBook.PARTYING),
+                model.streamArchivedTasks().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_noTaskOldEnough_nothingArchived() {
+        Model model = createModel();
+        assertCommandSuccess(new TaskArchiveCommand(LocalDate.of(2000, 1, 1)), model,
+                String.format(TaskArchiveCommand.MESSAGE_SUCCESS, 0), createModel());
+        assertFalse(model.canUndoTaskBook());
+    }
+
+    @Test
+    public void execute_noArchive_failure() {
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        assertCommandFailure(new TaskArchiveCommand(NOV_ONE), model,
+                String.format(TaskArchiveCommand.MESSAGE_ARCHIVE_FAILED, "There is no task archive."));
+    }
+
+    @Test
+    public void executeArchived_archivedTasks_foundUnlessBackInTaskBook() throws Exception {
+        Model model = createModel();
+        new TaskArchiveCommand(LocalDate.of(2023, 1, 1)).execute(model);
+
+        String feedback = new TaskArchivedCommand("fruit").execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(TaskArchivedCommand.MESSAGE_SUCCESS, 1, "")));
+        assertTrue(feedback.contains(TypicalTaskBook.EATING.toString()));
+
+        // undoing the archive brings the tasks back into the task book
+        model.undoTaskBook();
+        feedback = new TaskArchivedCommand(null).execute(model).getFeedbackToUser();
+        assertEquals(String.format(TaskArchivedCommand.MESSAGE_SUCCESS, 0, ""), feedback);
+    }
+
+    @Test
+    public void execute_tasksBroughtBackByUndo_notArchivedTwice() throws Exception {
+        Model model = createModel();
+        new TaskArchiveCommand(NOV_ONE).execute(model);
+        model.undoTaskBook();
+
+        new TaskArchiveCommand(LocalDate.of(2023, 1, 1)).execute(model);
+        assertEquals(List.of(TypicalTaskBook.PARTYING, TypicalTaskBook.EATING),
+                model.streamArchivedTasks().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_equalTaskAddedAgain_archivedAgain() throws Exception {
+        Model model = createModel();
+        new TaskArchiveCommand(NOV_ONE).execute(model);
+
+        // the same party again next year, added anew rather than brought back by undo
+        Task partyingAgain = new EventBuilder().withPersonName(TypicalTaskBook.CARL)
+                .withAssignment(Assignment.TO).withDescription("party at kevin's house")
+                .withTags("party").withEventDate(TypicalTaskBook.OCT_ELEVEN).withIsDone(true).build();
+        assertEquals(TypicalTaskBook.PARTYING, partyingAgain);
+        model.addTask(partyingAgain);
+        new TaskArchiveCommand(NOV_ONE).execute(model);
+        assertEquals(List.of(TypicalTaskBook.PARTYING, TypicalTaskBook.PARTYING),
+                model.streamArchivedTasks().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void executeArchived_malformedArchive_failure() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.archive.jsonl");
+        Files.write(filePath, new byte[] {'{', (byte) 0xC3, (byte) 0x28, '}', '\n'});
+        Model model = createModel();
+
+        assertCommandFailure(new TaskArchivedCommand(null), model,
+                String.format(TaskArchivedCommand.MESSAGE_READ_FAILED, new MalformedInputException(1).getMessage()));
+    }
+
+    @Test
+    public void equals() {
+        TaskArchiveCommand archiveCommand = new TaskArchiveCommand(NOV_ONE);
+        assertTrue(archiveCommand.equals(new TaskArchiveCommand(NOV_ONE)));
+        assertFalse(archiveCommand.equals(new TaskArchiveCommand(null)));
+        assertFalse(archiveCommand.equals(null));
+
+        TaskArchivedCommand archivedCommand = new TaskArchivedCommand("fruit");
+        assertTrue(archivedCommand.equals(new TaskArchivedCommand("fruit")));
+        assertFalse(archivedCommand.equals(new TaskArchivedCommand(null)));
+    }
+}
@@ -1,11 +1,16 @@
 package taskbook.logic.commands.modelstubs;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import taskbook.commons.core.GuiSettings;
+import taskbook.commons.exceptions.DataConversionException;
 import taskbook.model.Model;
 import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.ReadOnlyUserPrefs;
@@ -52,6 +57,11 @@ public class ModelStub implements Model {
         // Intentionally empty method.
     }
 
+    @Override
+    public long getTaskBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean canUndoTaskBook() {
         throw new AssertionError("This method should not be called.");
@@ -77,11 +87,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addAll(List<Person> persons, List<Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setTaskBook(ReadOnlyTaskBook newData) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int applyTaskBookChanges(ReadOnlyTaskBook base, ReadOnlyTaskBook changed) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyTaskBook getTaskBook() {
         throw new AssertionError("This method should not be called.");
@@ -182,4 +202,23 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Task> archiveTasks(Predicate<Task> predicate) throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Stream<Task> streamArchivedTasks() throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Instant> getBackupGenerations() throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyTaskBook readBackupGeneration(Instant generation) throws DataConversionException, IOException {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -0,0 +1,35 @@
+package taskbook.logic.parser;
+
+import static taskbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static taskbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.commons.core.Messages;
+import taskbook.logic.commands.categoryless.ExportCommand;
+import taskbook.logic.commands.categoryless.ImportCommand;
+import taskbook.logic.parser.categoryless.ExportCommandParser;
+import taskbook.logic.parser.categoryless.ImportCommandParser;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+    private ExportCommandParser exportParser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " f/data/export.jsonl ", new ImportCommand(Paths.get("data", "export.jsonl")));
+        assertParseSuccess(exportParser, " f/export.jsonl", new ExportCommand(Paths.get("export.jsonl")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "export.jsonl",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(exportParser, " f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,45 @@
+package taskbook.logic.parser;
+
+import static taskbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static taskbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.commons.core.Messages;
+import taskbook.logic.commands.tasks.TaskArchiveCommand;
+import taskbook.logic.commands.tasks.TaskArchivedCommand;
+import taskbook.logic.parser.tasks.TaskArchiveCommandParser;
+import taskbook.logic.parser.tasks.TaskArchivedCommandParser;
+
+public class TaskArchiveCommandParserTest {
+
+    private TaskArchiveCommandParser parser = new TaskArchiveCommandParser();
+    private TaskArchivedCommandParser archivedParser = new TaskArchivedCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, "", new TaskArchiveCommand(null));
+        assertParseSuccess(parser, " t/2022-01-01", new TaskArchiveCommand(LocalDate.of(2022, 1, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, TaskArchiveCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/yesterday", Messages.MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parseArchived_validArgs_returnsArchivedCommand() {
+        assertParseSuccess(archivedParser, "", new TaskArchivedCommand(null));
+        assertParseSuccess(archivedParser, " q/eat fruit ", new TaskArchivedCommand("eat fruit"));
+    }
+
+    @Test
+    public void parseArchived_invalidArgs_throwsParseException() {
+        assertParseFailure(archivedParser, " q/ ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, TaskArchivedCommand.MESSAGE_USAGE));
+    }
+}
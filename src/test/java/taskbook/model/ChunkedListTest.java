@@ -0,0 +1,53 @@
+package taskbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.testutil.Assert;
+
+public class ChunkedListTest {
+
+    @Test
+    public void of_elements_equalToElements() {
+        List<Object> elements = createElements(1000);
+        ChunkedList<Object> snapshot = ChunkedList.of(elements, null);
+
+        assertEquals(elements, snapshot);
+        assertEquals(elements.get(999), snapshot.get(999));
+        assertEquals(List.of(), ChunkedList.of(List.of(), null));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1000));
+    }
+
+    @Test
+    public void of_elementInserted_onlyChunkHoldingItChanged() {
+        List<Object> elements = createElements(1000);
+        ChunkedList<Object> previous = ChunkedList.of(elements, null);
+        elements.add(500, new Object());
+        ChunkedList<Object> snapshot = ChunkedList.of(elements, previous);
+
+        assertEquals(elements, snapshot);
+        // chunks cut at the maximum size may shift too, until the next chunk boundary
+        int previousChunkCount = previous.countSharedChunks(previous);
+        assertTrue(snapshot.countSharedChunks(previous) >= previousChunkCount - 3);
+        assertTrue(previousChunkCount > 1000 / ChunkedList.MAX_CHUNK_SIZE);
+    }
+
+    @Test
+    public void unmodifiable() {
+        ChunkedList<Object> snapshot = ChunkedList.of(createElements(10), null);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+    }
+
+    private static List<Object> createElements(int count) {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(new Object());
+        }
+        return elements;
+    }
+}
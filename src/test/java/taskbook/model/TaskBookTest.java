@@ -9,6 +9,7 @@ import static taskbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,22 @@ public class TaskBookTest {
         assertEquals(newData, taskBook);
     }
 
+    @Test
+    public void applyChanges_changesFromOtherCopy_ownChangesKept() {
+        TaskBook base = TypicalTaskBook.getTypicalTaskBook();
+        TaskBook changed = new TaskBook(base);
+        changed.addPerson(TypicalTaskBook.HOON);
+        changed.deleteTask(TypicalTaskBook.EATING);
+        taskBook.resetData(base);
+        taskBook.addPerson(TypicalTaskBook.IDA);
+
+        assertEquals(2, taskBook.applyChanges(base, changed));
+        TaskBook expected = new TaskBook(changed);
+        expected.addPerson(TypicalTaskBook.IDA);
+        assertEquals(new HashSet<>(expected.getPersonList()), new HashSet<>(taskBook.getPersonList()));
+        assertEquals(expected.getTaskList(), taskBook.getTaskList());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -80,6 +97,30 @@ public class TaskBookTest {
         assertTrue(taskBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPerson_renamed_tasksFollowNameAndKeepPlace() {
+        taskBook.resetData(TypicalTaskBook.getTypicalTaskBook());
+        Person renamedAlice = new PersonBuilder(TypicalTaskBook.ALICE).withName("Alice Tan").build();
+        int eatingIndex = taskBook.getTaskList().indexOf(TypicalTaskBook.EATING);
+
+        taskBook.setPerson(TypicalTaskBook.ALICE, renamedAlice);
+
+        Task renamedEating = taskBook.getTaskList().get(eatingIndex);
+        assertEquals(renamedAlice.getName(), renamedEating.getName());
+        assertEquals(TypicalTaskBook.EATING.getDescription(), renamedEating.getDescription());
+        assertFalse(taskBook.canDeletePerson(renamedAlice));
+        assertTrue(taskBook.hasTask(renamedEating));
+        assertFalse(taskBook.hasTask(TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void canDeletePerson_lastTaskDeleted_returnsTrue() {
+        taskBook.resetData(TypicalTaskBook.getTypicalTaskBook());
+        assertFalse(taskBook.canDeletePerson(TypicalTaskBook.ALICE));
+        taskBook.deleteTask(TypicalTaskBook.EATING);
+        assertTrue(taskBook.canDeletePerson(TypicalTaskBook.ALICE));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> taskBook.getPersonList().remove(0));
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setTaskBookFilePath(null));
     }
 
+    @Test
+    public void setTaskBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setTaskBookFormat(null));
+    }
+
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import taskbook.model.person.Person;
@@ -140,6 +143,31 @@ public class VersionedTaskBookTest {
         assertTrue(versioned.canUndo());
     }
 
+    @Test
+    public void getModificationCount_sameStateCommit_unchanged() {
+        VersionedTaskBook versioned = new VersionedTaskBook();
+        long initialCount = versioned.getModificationCount();
+        versioned.commit();
+
+        assertEquals(initialCount, versioned.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_commitUndoRedo_increases() {
+        VersionedTaskBook versioned = new VersionedTaskBook();
+        long initialCount = versioned.getModificationCount();
+        versioned.addTask(T1);
+        versioned.commit();
+        long committedCount = versioned.getModificationCount();
+        versioned.undo();
+        long undoneCount = versioned.getModificationCount();
+        versioned.redo();
+
+        assertTrue(initialCount < committedCount);
+        assertTrue(committedCount < undoneCount);
+        assertTrue(undoneCount < versioned.getModificationCount());
+    }
+
     @Test
     public void canUndo_cannotUndo_false() {
         VersionedTaskBook versioned = new VersionedTaskBook();
@@ -209,4 +237,111 @@ public class VersionedTaskBookTest {
         versioned.undo();
         assertEquals(initial, versioned);
     }
+
+    @Test
+    public void commit_oneRecordChanged_unchangedChunksShared() {
+        TaskBook initial = new TaskBook();
+        for (int i = 0; i < 500; i++) {
+            initial.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        VersionedTaskBook versioned = new VersionedTaskBook(initial);
+        Person middle = versioned.getPersonList().get(250);
+        versioned.removePerson(middle);
+        versioned.commit();
+
+        // every chunk but the one that held the deleted person is shared, and there are at least this many chunks
+        int chunkCount = (500 + ChunkedList.MAX_CHUNK_SIZE - 1) / ChunkedList.MAX_CHUNK_SIZE;
+        assertTrue(versioned.countChunksSharedWithPreviousState() >= chunkCount - 1);
+
+        versioned.undo();
+        assertEquals(initial, versioned);
+        versioned.redo();
+        assertFalse(versioned.hasPerson(middle));
+        assertEquals(499, versioned.getPersonList().size());
+    }
+
+    @Test
+    public void undoRedo_operationLog_restoresEachState() {
+        Task t1OfP1 = new TodoBuilder().withPersonName(P1).withDescription("Task 1").build();
+        Task t2OfP1 = new TodoBuilder().withPersonName(P1).withDescription("Task 2").build();
+        Task t3OfP2 = new TodoBuilder().withPersonName(P2).withDescription("Task 3").build();
+        TaskBook initial = new TaskBookBuilder().withPerson(P1).withPerson(P2).withPerson(P3).build();
+        VersionedTaskBook versioned = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG, initial);
+        List<TaskBook> states = new ArrayList<>();
+        states.add(new TaskBook(versioned));
+
+        versioned.addAll(List.of(P4), List.of(t1OfP1, t3OfP2, t2OfP1));
+        versioned.commit();
+        states.add(new TaskBook(versioned));
+        versioned.setPerson(P1, new PersonBuilder().withName("Person 1 renamed").build());
+        versioned.commit();
+        states.add(new TaskBook(versioned));
+        versioned.deleteTasks(List.of(versioned.getTaskList().get(0), versioned.getTaskList().get(2)));
+        versioned.removePerson(P3);
+        versioned.commit();
+        states.add(new TaskBook(versioned));
+        versioned.resetData(new TaskBookBuilder().withPerson(P2).build());
+        versioned.commit();
+        states.add(new TaskBook(versioned));
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            versioned.undo();
+            assertEquals(states.get(i), versioned);
+        }
+        assertFalse(versioned.canUndo());
+        for (int i = 1; i < states.size(); i++) {
+            versioned.redo();
+            assertEquals(states.get(i), versioned);
+        }
+        assertFalse(versioned.canRedo());
+    }
+
+    @Test
+    public void undo_operationLogWithUncommittedOperations_revertsThemToo() {
+        TaskBook initial = new TaskBook();
+        VersionedTaskBook versioned = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG, initial);
+        versioned.addPerson(P1);
+        versioned.commit();
+        versioned.addPerson(P2);
+        versioned.addTask(T1);
+
+        versioned.undo();
+        assertEquals(initial, versioned);
+        versioned.redo();
+        assertEquals(new TaskBookBuilder().withPerson(P1).build(), versioned);
+    }
+
+    @Test
+    public void commit_operationLog_equivalentToSameOperations() {
+        VersionedTaskBook versioned = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG,
+                new TaskBook());
+        VersionedTaskBook other = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG, new TaskBook());
+        for (VersionedTaskBook taskBook : List.of(versioned, other)) {
+            taskBook.addPerson(P1);
+            taskBook.commit();
+            // Commit with no operations should not add to history.
+            taskBook.commit();
+        }
+
+        assertTrue(versioned.isEquivalentTo(other));
+        other.addTask(T2);
+        other.commit();
+        assertFalse(versioned.isEquivalentTo(other));
+    }
+
+    @Test
+    public void undo_operationLogWithLongHistory_allUndone() {
+        TaskBook initial = new TaskBookBuilder().withPerson(P1).build();
+        VersionedTaskBook versioned = new VersionedTaskBook(VersionedTaskBook.HistoryMode.OPERATION_LOG, 1000,
+                initial);
+        for (int i = 0; i < 1000; i++) {
+            versioned.addTask(new TodoBuilder().withPersonName(P1).withDescription("Task " + i).build());
+            versioned.commit();
+        }
+
+        while (versioned.canUndo()) {
+            versioned.undo();
+        }
+        assertEquals(initial, versioned);
+    }
 }
@@ -106,6 +106,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void find_afterSetPersonWithDifferentIdentity_findsEditedPersonOnly() {
+        uniquePersonList.add(TypicalTaskBook.ALICE);
+        uniquePersonList.setPerson(TypicalTaskBook.ALICE, TypicalTaskBook.BOB);
+        assertEquals(TypicalTaskBook.BOB, uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+        assertEquals(null, uniquePersonList.find(TypicalTaskBook.ALICE.getName()));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(TypicalTaskBook.ALICE);
@@ -130,6 +138,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(TypicalTaskBook.ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(TypicalTaskBook.ALICE));
     }
 
     @Test
@@ -168,6 +177,36 @@ public class UniquePersonListTest {
                 -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_list_onlyReplacementPersonsFound() {
+        uniquePersonList.add(TypicalTaskBook.ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(TypicalTaskBook.BOB));
+        assertEquals(null, uniquePersonList.find(TypicalTaskBook.ALICE.getName()));
+        assertEquals(TypicalTaskBook.BOB, uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+    }
+
+    @Test
+    public void applyChanges_personAdded_personFound() {
+        List<Person> base = List.of(TypicalTaskBook.ALICE);
+        uniquePersonList.setPersons(base);
+        uniquePersonList.applyChanges(base, List.of(TypicalTaskBook.ALICE, TypicalTaskBook.BOB));
+        assertEquals(TypicalTaskBook.BOB, uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+        Assert.assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(TypicalTaskBook.BOB));
+    }
+
+    @Test
+    public void setPersons_range_replacedInPlace() {
+        uniquePersonList.setPersons(List.of(TypicalTaskBook.ALICE, TypicalTaskBook.BENSON, TypicalTaskBook.CARL));
+        uniquePersonList.setPersons(1, 1, List.of(TypicalTaskBook.BOB, TypicalTaskBook.AMY));
+
+        assertEquals(List.of(TypicalTaskBook.ALICE, TypicalTaskBook.BOB, TypicalTaskBook.AMY, TypicalTaskBook.CARL),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(null, uniquePersonList.find(TypicalTaskBook.BENSON.getName()));
+        assertEquals(TypicalTaskBook.AMY, uniquePersonList.find(TypicalTaskBook.AMY.getName()));
+        Assert.assertThrows(DuplicatePersonException.class, ()
+                -> uniquePersonList.setPersons(0, 1, List.of(TypicalTaskBook.CARL)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, ()
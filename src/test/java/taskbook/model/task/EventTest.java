@@ -33,4 +33,20 @@ public class EventTest {
                 .withEventDate(LocalDate.of(2022, 10, 11)).build();
         Assertions.assertFalse(TypicalTaskBook.PARTYING.isSameTask(editedEating));
     }
+
+    @Test
+    public void getIdentity() {
+        // same task, all other attributes different -> same identity
+        Event editedEating = new EventBuilder().withPersonName(TypicalTaskBook.CARL)
+                .withAssignment(Assignment.TO).withDescription("party at kevin's house").withIsDone(true)
+                .withEventDate(LocalDate.of(2022, 10, 11)).build();
+        Assertions.assertEquals(TypicalTaskBook.PARTYING.getIdentity(), editedEating.getIdentity());
+
+        // different date -> different identity
+        editedEating = new EventBuilder().withPersonName(TypicalTaskBook.CARL)
+                .withAssignment(Assignment.TO).withDescription("party at kevin's house")
+                .withEventDate(LocalDate.of(2000, 1, 1)).build();
+        Assertions.assertFalse(TypicalTaskBook.PARTYING.isSameTask(editedEating));
+        Assertions.assertNotEquals(TypicalTaskBook.PARTYING.getIdentity(), editedEating.getIdentity());
+    }
 }
@@ -0,0 +1,200 @@
+package taskbook.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.model.task.enums.Assignment;
+import taskbook.model.task.exceptions.DuplicateTaskException;
+import taskbook.model.task.exceptions.TaskNotFoundException;
+import taskbook.testutil.Assert;
+import taskbook.testutil.DeadlineBuilder;
+import taskbook.testutil.TodoBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class TaskListTest {
+
+    private final TaskList taskList = new TaskList();
+
+    @Test
+    public void contains_taskWithSameIdentityFieldsInList_returnsTrue() throws Exception {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setIsDone(true);
+        Task doneSleeping = TypicalTaskBook.SLEEPING.createEditedCopy(descriptor);
+        assertTrue(taskList.contains(doneSleeping));
+    }
+
+    @Test
+    public void contains_deadlineWithOtherDate_returnsFalse() throws Exception {
+        taskList.add(TypicalTaskBook.EATING);
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setDate(TypicalTaskBook.EATING.getDate().plusDays(1));
+        Task eatingLater = TypicalTaskBook.EATING.createEditedCopy(descriptor);
+        assertFalse(taskList.contains(eatingLater));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        taskList.add(TypicalTaskBook.EATING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.add(TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void addAll_duplicateWithinTasks_throwsDuplicateTaskException() {
+        Assert.assertThrows(DuplicateTaskException.class, () ->
+                taskList.addAll(Arrays.asList(TypicalTaskBook.EATING, TypicalTaskBook.EATING)));
+        assertTrue(taskList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setTask_editedIdentity_oldIdentityFreed() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Task napping = new TodoBuilder().withPersonName(TypicalTaskBook.BENSON)
+                .withAssignment(Assignment.FROM).withDescription("nap").build();
+        taskList.setTask(TypicalTaskBook.SLEEPING, napping);
+
+        assertTrue(taskList.contains(napping));
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.setTask(napping, TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void remove_taskInList_identityFreed() {
+        taskList.add(TypicalTaskBook.PARTYING);
+        taskList.remove(TypicalTaskBook.PARTYING);
+        assertFalse(taskList.contains(TypicalTaskBook.PARTYING));
+        Assert.assertThrows(TaskNotFoundException.class, () -> taskList.remove(TypicalTaskBook.PARTYING));
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() {
+        taskList.add(TypicalTaskBook.EATING);
+        List<Task> listWithDuplicateTasks = Arrays.asList(TypicalTaskBook.SLEEPING, TypicalTaskBook.SLEEPING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.setTasks(listWithDuplicateTasks));
+        assertTrue(taskList.contains(TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void setTasks_list_replacesIdentities() {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks().subList(1, 3));
+
+        assertFalse(taskList.contains(TypicalTaskBook.EATING));
+        assertTrue(taskList.contains(TypicalTaskBook.SLEEPING));
+        assertEquals(2, taskList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setTasks_taskList_replacesIdentities() {
+        TaskList replacement = new TaskList();
+        replacement.add(TypicalTaskBook.PARTYING);
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.setTasks(replacement);
+
+        assertFalse(taskList.contains(TypicalTaskBook.EATING));
+        assertTrue(taskList.contains(TypicalTaskBook.PARTYING));
+    }
+
+    @Test
+    public void applyChanges_taskAdded_identityIndexed() {
+        List<Task> base = List.of(TypicalTaskBook.EATING);
+        taskList.setTasks(base);
+        taskList.applyChanges(base, List.of(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING));
+        assertTrue(taskList.contains(TypicalTaskBook.SLEEPING));
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.add(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void getTasksOf_taskRemoved_noLongerListed() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        assertEquals(List.of(TypicalTaskBook.SLEEPING), taskList.getTasksOf(TypicalTaskBook.BENSON.getName()));
+
+        taskList.remove(TypicalTaskBook.SLEEPING);
+        assertFalse(taskList.hasTasksOf(TypicalTaskBook.BENSON.getName()));
+        assertTrue(taskList.getTasksOf(TypicalTaskBook.BENSON.getName()).isEmpty());
+    }
+
+    @Test
+    public void setTasks_map_editedInPlace() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        Task napping = new TodoBuilder().withPersonName(TypicalTaskBook.ALICE)
+                .withAssignment(Assignment.FROM).withDescription("nap").build();
+
+        taskList.setTasks(Map.of(TypicalTaskBook.SLEEPING, napping));
+
+        assertEquals(Arrays.asList(TypicalTaskBook.EATING, napping, TypicalTaskBook.PARTYING),
+                taskList.asUnmodifiableObservableList());
+        assertFalse(taskList.hasTasksOf(TypicalTaskBook.BENSON.getName()));
+        assertEquals(2, taskList.getTasksOf(TypicalTaskBook.ALICE.getName()).size());
+    }
+
+    @Test
+    public void setTasks_mapWithDuplicateEdit_throwsDuplicateTaskException() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        Assert.assertThrows(DuplicateTaskException.class, () ->
+                taskList.setTasks(Map.of(TypicalTaskBook.SLEEPING, TypicalTaskBook.EATING)));
+        assertEquals(TypicalTaskBook.getTypicalTasks(), taskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_mapEditTakingIdentityOfAnotherEditedTask_success() throws Exception {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setName(TypicalTaskBook.HOON.getName());
+        Task renamedEating = TypicalTaskBook.EATING.createEditedCopy(descriptor);
+        Task undoneEating = new DeadlineBuilder().withPersonName(TypicalTaskBook.ALICE)
+                .withAssignment(Assignment.TO).withDescription("eat fruit")
+                .withDeadlineDate(TypicalTaskBook.NOV_NINE).build();
+
+        taskList.setTasks(Map.of(TypicalTaskBook.EATING, renamedEating, TypicalTaskBook.SLEEPING, undoneEating));
+
+        assertEquals(Arrays.asList(renamedEating, undoneEating, TypicalTaskBook.PARTYING),
+                taskList.asUnmodifiableObservableList());
+        assertTrue(taskList.contains(TypicalTaskBook.EATING));
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+        assertEquals(List.of(renamedEating), taskList.getTasksOf(TypicalTaskBook.HOON.getName()));
+    }
+
+    @Test
+    public void setTasks_mapWithTaskNotInList_throwsTaskNotFoundException() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        Task equalToSleeping = new TodoBuilder().withPersonName(TypicalTaskBook.BENSON)
+                .withAssignment(Assignment.FROM).withDescription("sleep early").withTags("habits").build();
+        Task napping = new TodoBuilder().withDescription("nap").build();
+
+        Assert.assertThrows(TaskNotFoundException.class, () ->
+                taskList.setTasks(Map.of(equalToSleeping, napping)));
+        assertEquals(TypicalTaskBook.getTypicalTasks(), taskList.asUnmodifiableObservableList());
+        assertFalse(taskList.contains(napping));
+    }
+
+    @Test
+    public void setTasks_range_replacedInPlace() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        Task napping = new TodoBuilder().withPersonName(TypicalTaskBook.ALICE)
+                .withAssignment(Assignment.FROM).withDescription("nap").build();
+
+        taskList.setTasks(1, 2, List.of(napping));
+
+        assertEquals(Arrays.asList(TypicalTaskBook.EATING, napping), taskList.asUnmodifiableObservableList());
+        assertFalse(taskList.contains(TypicalTaskBook.PARTYING));
+        assertFalse(taskList.hasTasksOf(TypicalTaskBook.BENSON.getName()));
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.add(napping));
+    }
+
+    @Test
+    public void setTasks_rangeWithTaskLeftInList_throwsDuplicateTaskException() {
+        taskList.setTasks(TypicalTaskBook.getTypicalTasks());
+        Assert.assertThrows(DuplicateTaskException.class, () ->
+                taskList.setTasks(1, 1, List.of(TypicalTaskBook.EATING)));
+        assertEquals(TypicalTaskBook.getTypicalTasks(), taskList.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,75 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.TaskBook;
+import taskbook.testutil.TypicalTaskBook;
+
+public class BackgroundTaskBookSaverTest {
+
+    private static final long NEVER = 60 * 60 * 1000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_burstOfRequests_coalescedIntoOneWrite() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        BackgroundTaskBookSaver saver = new BackgroundTaskBookSaver(new JsonTaskBookStorage(filePath), NEVER);
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+
+        saver.save(taskBook);
+        taskBook.addPerson(TypicalTaskBook.HOON);
+        saver.save(taskBook);
+        TaskBook expected = new TaskBook(taskBook);
+        saver.save(taskBook);
+
+        // changes made after the last request are not part of its snapshot
+        taskBook.addPerson(TypicalTaskBook.IDA);
+
+        assertEquals(3, saver.getQueueDepth());
+        assertFalse(Files.exists(filePath));
+
+        saver.flush();
+        assertEquals(0, saver.getQueueDepth());
+        assertEquals(expected, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void save_zeroStaleness_writtenInBackground() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        BackgroundTaskBookSaver saver = new BackgroundTaskBookSaver(new JsonTaskBookStorage(filePath), 0);
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+
+        saver.save(taskBook);
+        saver.flush();
+        assertEquals(taskBook, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void flush_writeFails_failureReported() {
+        // the folder itself cannot be written to as a file
+        BackgroundTaskBookSaver saver = new BackgroundTaskBookSaver(new JsonTaskBookStorage(testFolder), NEVER);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(TypicalTaskBook.getTypicalTaskBook());
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(1, failures.size());
+
+        // the failed snapshot is kept to be retried
+        assertTrue(saver.getQueueDepth() > 0);
+    }
+}
@@ -0,0 +1,229 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.task.Todo;
+import taskbook.testutil.PersonBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class BinaryTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskBookStorage(testFolder.resolve("missing.tbk")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("taskbook.tbk");
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        original.addPerson(TypicalTaskBook.HOON);
+        original.removePerson(TypicalTaskBook.FIONA);
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_smallerThanJson() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path binaryFilePath = testFolder.resolve("taskbook.tbk");
+        Path jsonFilePath = testFolder.resolve("taskbook.json");
+        new BinaryTaskBookStorage(binaryFilePath).saveTaskBook(original);
+        new JsonTaskBookStorage(jsonFilePath, true).saveTaskBook(original);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void read_corruptedPayload_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void read_corruptedPayloadWithBackup_readsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        TaskBook modified = new TaskBook(original);
+        modified.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(modified);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        byte[] bytes = BinaryTaskBookStorage.encode(TypicalTaskBook.getTypicalTaskBook().getPersonList(),
+                TypicalTaskBook.getTypicalTaskBook().getTaskList());
+        ByteBuffer.wrap(bytes).putInt(4, BinaryTaskBookStorage.SCHEMA_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void readTaskBookMapped_savedTaskBook_sameTaskBook() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storage.saveTaskBook(original);
+
+        ReadOnlyTaskBook mapped = storage.readTaskBookMapped(filePath).get();
+        assertEquals(original.getPersonList().size(), mapped.getPersonList().size());
+        assertEquals(original.getTaskList().get(2), mapped.getTaskList().get(2));
+        assertEquals(original, new TaskBook(mapped));
+    }
+
+    @Test
+    public void readTaskBookMapped_recordAccessedAgain_decodedOnce() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        storage.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+
+        ReadOnlyTaskBook mapped = storage.readTaskBookMapped(filePath).get();
+        assertSame(mapped.getPersonList().get(1), mapped.getPersonList().get(1));
+        assertSame(mapped.getTaskList().get(0), mapped.getTaskList().get(0));
+    }
+
+    @Test
+    public void readTaskBookMapped_moreRecordsThanCached_oldestDecodedAgain() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        TaskBook taskBook = new TaskBook();
+        for (int i = 0; i <= BinaryTaskBookView.DECODE_CACHE_SIZE; i++) {
+            taskBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        storage.saveTaskBook(taskBook);
+
+        ReadOnlyTaskBook mapped = storage.readTaskBookMapped(filePath).get();
+        Person first = mapped.getPersonList().get(0);
+        for (int i = 1; i <= BinaryTaskBookView.DECODE_CACHE_SIZE; i++) {
+            mapped.getPersonList().get(i);
+        }
+        Person firstAgain = mapped.getPersonList().get(0);
+        assertEquals(first, firstAgain);
+        assertFalse(first == firstAgain);
+    }
+
+    @Test
+    public void readTaskBookMapped_corruptedPayload_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        TaskBook changed = new TaskBook(original);
+        changed.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(changed);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertEquals(original, new TaskBook(storage.readTaskBookMapped(filePath).get()));
+
+        Files.delete(FileUtil.getBackupPath(filePath));
+        assertThrows(DataConversionException.class, () -> storage.readTaskBookMapped(filePath));
+    }
+
+    @Test
+    public void readTaskBookMapped_invalidRecord_throwsOnlyWhenAccessed() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        Files.write(filePath, withHeader(1, payloadWithOneTodo("not a valid name!")));
+
+        ReadOnlyTaskBook mapped = new BinaryTaskBookStorage(filePath).readTaskBookMapped(filePath).get();
+        assertEquals(1, mapped.getTaskList().size());
+        assertThrows(IllegalArgumentException.class, () -> mapped.getTaskList().get(0));
+    }
+
+    @Test
+    public void read_schemaVersionOne_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.tbk");
+        Files.write(filePath, withHeader(1, payloadWithOneTodo(Name.SELF.fullName)));
+
+        ReadOnlyTaskBook readBack = new BinaryTaskBookStorage(filePath).readTaskBook().get();
+        Todo todo = (Todo) readBack.getTaskList().get(0);
+        assertEquals(Name.SELF, todo.getName());
+        assertEquals("sleep", todo.getDescription().description);
+        assertTrue(todo.isDone());
+    }
+
+    /**
+     * Returns a payload in the layout of schema version 1 with a single todo assigned to {@code name}.
+     */
+    private static byte[] payloadWithOneTodo(String name) throws Exception {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeInt(2);
+        for (String string : new String[] {name, "sleep"}) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(0); // persons
+        out.writeInt(1); // tasks
+        out.writeByte(0); // todo
+        out.writeInt(0); // name
+        out.writeByte(1); // assignment
+        out.writeInt(1); // description
+        out.writeBoolean(true);
+        out.writeInt(0); // tags
+        return payload.toByteArray();
+    }
+
+    private static byte[] withHeader(int version, byte[] payload) {
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+        return ByteBuffer.allocate(BinaryTaskBookStorage.HEADER_LENGTH + payload.length)
+                .putInt(BinaryTaskBookStorage.MAGIC)
+                .putInt(version)
+                .putInt(payload.length)
+                .putLong(checksum.getValue())
+                .put(payload)
+                .array();
+    }
+}
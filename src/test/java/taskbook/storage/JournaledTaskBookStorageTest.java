@@ -0,0 +1,238 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.TaskBook;
+import taskbook.model.task.EditTaskDescriptor;
+import taskbook.model.task.Task;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JournaledTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournaledTaskBookStorage(filePath).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void saveTaskBook_afterRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JsonTaskBookStorage(filePath).saveTaskBook(original);
+
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        String snapshot = new String(Files.readAllBytes(filePath));
+
+        original.addPerson(TypicalTaskBook.HOON);
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setIsDone(true);
+        Task marked = TypicalTaskBook.SLEEPING.createEditedCopy(descriptor);
+        original.setTask(TypicalTaskBook.SLEEPING, marked);
+        storage.saveTaskBook(original);
+
+        // the snapshot is left untouched and the changes go to the journal
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath)));
+        assertEquals(2, Files.readAllLines(testFolder.resolve("taskbook.json.journal")).size());
+
+        TaskBook readBack = new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveTaskBook_unchanged_doesNotWriteJournal() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        storage.saveTaskBook(original);
+
+        assertFalse(Files.exists(testFolder.resolve("taskbook.json.journal")));
+    }
+
+    @Test
+    public void saveTaskBook_pastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath, 1);
+        storage.saveTaskBook(original);
+
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        storage.awaitCompaction();
+        original.removePerson(TypicalTaskBook.ZED);
+        storage.saveTaskBook(original);
+        storage.awaitCompaction();
+
+        // every rotated journal has been folded into the snapshot
+        assertFalse(Files.exists(testFolder.resolve("taskbook.json.journal")));
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_staleRotatedJournal_ignored() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath, 1);
+        storage.saveTaskBook(original);
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        storage.awaitCompaction();
+
+        // simulate a crash between writing the compacted snapshot and deleting the rotated journal
+        Path staleJournal = testFolder.resolve("taskbook.json.journal.1");
+        Files.write(staleJournal,
+                "{\"generation\":1,\"op\":\"DELETE\",\"target\":\"PERSONS\",\"index\":0,\"count\":1}\n"
+                        .getBytes());
+
+        assertTrue(Files.exists(staleJournal));
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_tornLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+
+        // simulate a crash in the middle of appending the next record
+        Files.write(testFolder.resolve("taskbook.json.journal"), "{\"generation\":1,\"op\":\"DEL".getBytes(),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_afterTornLastRecord_newRecordsKept() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        Path journal = testFolder.resolve("taskbook.json.journal");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JournaledTaskBookStorage(filePath).saveTaskBook(original);
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        Files.write(journal, "{\"generation\":1,\"op\":\"DEL".getBytes(), StandardOpenOption.APPEND);
+
+        // the app restarts after the crash and saves twice more
+        storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.IDA);
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+        original.removePerson(TypicalTaskBook.ZED);
+        storage.saveTaskBook(original);
+
+        assertEquals(3, Files.readAllLines(journal).size());
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_lastRecordWithoutLineBreak_recordKept() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        Path journal = testFolder.resolve("taskbook.json.journal");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JournaledTaskBookStorage(filePath).saveTaskBook(original);
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        // simulate a crash just before the line break of the last record
+        String journalContent = Files.readString(journal);
+        Files.writeString(journal, journalContent.substring(0, journalContent.length() - 1));
+
+        storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.IDA);
+        storage.saveTaskBook(original);
+
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_corruptSnapshot_readsPreviousGenerationWithJournal() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath, 1);
+        storage.saveTaskBook(original);
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        storage.awaitCompaction();
+        original.addPerson(TypicalTaskBook.IDA);
+        storage.saveTaskBook(original);
+        storage.awaitCompaction();
+
+        Files.writeString(filePath, "{\"persons\": [");
+        JournaledTaskBookStorage restarted = new JournaledTaskBookStorage(filePath);
+        assertEquals(original, new TaskBook(restarted.readTaskBook().get()));
+
+        // the next save replaces the corrupt snapshot
+        original.removePerson(TypicalTaskBook.ZED);
+        restarted.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_corruptSnapshotAfterFullSnapshot_laterRecordsNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JournaledTaskBookStorage(filePath).saveTaskBook(original);
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        storage.readTaskBook();
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+
+        // a storage that has not read the file replaces it with another task book, and then journals a change
+        TaskBook replacement = new TaskBook();
+        replacement.addPerson(TypicalTaskBook.ALICE);
+        JournaledTaskBookStorage replacing = new JournaledTaskBookStorage(filePath);
+        replacing.saveTaskBook(replacement);
+        replacement.addPerson(TypicalTaskBook.IDA);
+        replacing.saveTaskBook(replacement);
+        assertEquals(replacement, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+
+        Files.writeString(filePath, "{\"persons\": [");
+        assertEquals(original, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_editedSnapshot_journalNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+
+        // the journal records positions in the snapshot as it was written, so they do not apply to an edited one
+        String json = new String(Files.readAllBytes(filePath));
+        Files.writeString(filePath, json.replace("Alice Pauline", "Alicia Pauline"));
+        TaskBook edited = new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(edited, new TaskBook(storage.readTaskBook().get()));
+
+        // the next save replaces the edited snapshot and its stale journal
+        edited.addPerson(TypicalTaskBook.IDA);
+        storage.saveTaskBook(edited);
+        assertEquals(edited, new TaskBook(new JournaledTaskBookStorage(filePath).readTaskBook().get()));
+    }
+}
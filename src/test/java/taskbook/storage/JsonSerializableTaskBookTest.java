@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import taskbook.commons.exceptions.IllegalValueException;
 import taskbook.commons.util.JsonUtil;
 import taskbook.model.TaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
 import taskbook.testutil.Assert;
 import taskbook.testutil.TypicalTaskBook;
 
@@ -45,4 +49,21 @@ public class JsonSerializableTaskBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void buildTaskBook_duplicateTasks_throwsIllegalValueException() {
+        TaskBook typical = TypicalTaskBook.getTypicalTaskBook();
+        Task duplicated = typical.getTaskList().get(0);
+        Assert.assertThrows(IllegalValueException.class, JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK, () ->
+                JsonSerializableTaskBook.buildTaskBook(typical.getPersonList(), Arrays.asList(duplicated, duplicated)));
+    }
+
+    @Test
+    public void buildTaskBook_taskOfMissingPerson_taskDropped() throws Exception {
+        TaskBook typical = TypicalTaskBook.getTypicalTaskBook();
+        TaskBook built = JsonSerializableTaskBook.buildTaskBook(Collections.<Person>emptyList(),
+                typical.getTaskList());
+        assertEquals(typical.getTaskList().stream().filter(Task::isSelfAssigned).count(),
+                built.getTaskList().size());
+    }
+
 }
@@ -0,0 +1,68 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.task.Task;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JsonTaskArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void stream_missingFile_emptyResult() throws Exception {
+        JsonTaskArchiveStorage archive = new JsonTaskArchiveStorage(testFolder.resolve("missing.archive.jsonl"));
+        assertEquals(List.of(), readAll(archive));
+    }
+
+    @Test
+    public void appendAndStream_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("taskbook.archive.jsonl");
+        JsonTaskArchiveStorage archive = new JsonTaskArchiveStorage(filePath);
+
+        archive.append(List.of(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING));
+        archive.append(List.of(TypicalTaskBook.PARTYING));
+        assertEquals(3, Files.readAllLines(filePath).size());
+        assertEquals(List.of(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING),
+                readAll(new JsonTaskArchiveStorage(filePath)));
+    }
+
+    @Test
+    public void stream_tornLastLine_skipped() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.archive.jsonl");
+        JsonTaskArchiveStorage archive = new JsonTaskArchiveStorage(filePath);
+        archive.append(List.of(TypicalTaskBook.EATING));
+        Files.writeString(filePath, "{\"type\":\"todo\",\"na", StandardOpenOption.APPEND);
+
+        assertEquals(List.of(TypicalTaskBook.EATING), readAll(archive));
+    }
+
+    @Test
+    public void append_afterTornLastLine_appendedTasksKept() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.archive.jsonl");
+        JsonTaskArchiveStorage archive = new JsonTaskArchiveStorage(filePath);
+        archive.append(List.of(TypicalTaskBook.EATING));
+        Files.writeString(filePath, "{\"type\":\"todo\",\"na", StandardOpenOption.APPEND);
+
+        archive.append(List.of(TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING));
+        assertEquals(List.of(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING),
+                readAll(archive));
+    }
+
+    private static List<Task> readAll(JsonTaskArchiveStorage archive) throws Exception {
+        try (Stream<Task> tasks = archive.stream()) {
+            return tasks.collect(Collectors.toList());
+        }
+    }
+}
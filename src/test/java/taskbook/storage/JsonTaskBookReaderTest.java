@@ -0,0 +1,137 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Name;
+import taskbook.testutil.PersonBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JsonTaskBookReaderTest {
+
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableTaskBookTest", "typicalPersonsTaskBook.json");
+    private static final Path DUPLICATE_PERSON_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableTaskBookTest", "duplicatePersonTaskBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalTaskBookFile_success() throws Exception {
+        JsonTaskBookReader reader = new JsonTaskBookReader(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalTaskBook.getTypicalTaskBook(), reader.read());
+        assertTrue(reader.getOtherField("_comment").isPresent());
+    }
+
+    @Test
+    public void read_tasksBeforePersons_success() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        // an array keeps the declared element type, so that the type of each task is written
+        JsonAdaptedTask[] tasks = JsonSerializableTaskBook.adaptTasks(original.getTaskList())
+                .toArray(new JsonAdaptedTask[0]);
+        String json = "{\"tasks\":" + JsonUtil.toJsonString(tasks)
+                + ",\"generation\":7,\"persons\":"
+                + JsonUtil.toJsonString(JsonSerializableTaskBook.adaptPersons(original.getPersonList())) + "}";
+        Path filePath = testFolder.resolve("taskbook.json");
+        Files.write(filePath, json.getBytes());
+
+        JsonTaskBookReader reader = new JsonTaskBookReader(filePath);
+        assertEquals(original, reader.read());
+        assertEquals("7", reader.getOtherField("generation").get());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTaskBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonTaskBookReader(DUPLICATE_PERSON_FILE).read());
+    }
+
+    @Test
+    public void read_writtenFile_trusted() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path filePath = testFolder.resolve("taskbook.json");
+        for (boolean isCompact : new boolean[] {false, true}) {
+            new JsonTaskBookWriter(isCompact).write(filePath, original.getPersonList(), original.getTaskList());
+
+            JsonTaskBookReader reader = new JsonTaskBookReader(filePath);
+            assertEquals(original, reader.read());
+            assertTrue(reader.isTrusted());
+        }
+    }
+
+    @Test
+    public void read_editedFile_validatedAgain() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookWriter(false).write(filePath, original.getPersonList(), original.getTaskList());
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        Files.write(filePath, json.replace("Alice Pauline", "Alice!Pauline").getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonTaskBookReader(filePath).read());
+
+        Files.write(filePath, json.replace(JsonTaskBookWriter.VALIDATED_BY, "V0.0.0")
+                .getBytes(StandardCharsets.UTF_8));
+        JsonTaskBookReader reader = new JsonTaskBookReader(filePath);
+        assertEquals(original, reader.read());
+        assertFalse(reader.isTrusted());
+    }
+
+    @Test
+    public void read_editedFileStillMarkedValidated_validatedAgain() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookWriter(false).write(filePath, original.getPersonList(), original.getTaskList());
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertTrue(json.contains(JsonTaskBookWriter.VALIDATED_BY));
+
+        // values that only validation rejects cleanly, rather than with an unchecked exception
+        for (String[] edit : new String[][] {{"\"TO\"", "\"SIDEWAYS\""}, {"\"Alice Pauline\"", "null"},
+                {"2022-11-09", "9th of November"}}) {
+            assertTrue(json.contains(edit[0]));
+            Files.write(filePath, json.replaceFirst(edit[0], edit[1]).getBytes(StandardCharsets.UTF_8));
+            assertThrows(IllegalValueException.class, () -> new JsonTaskBookReader(filePath).read());
+        }
+    }
+
+    @Test
+    public void read_moreRecordsThanOneBatch_allRead() throws Exception {
+        TaskBook original = new TaskBook();
+        for (int i = 0; i < 10000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookWriter(true).write(filePath, original.getPersonList(), original.getTaskList());
+
+        JsonTaskBookReader reader = new JsonTaskBookReader(filePath);
+        assertEquals(original, reader.read());
+        assertTrue(reader.isTrusted());
+
+        // a duplicate in a later batch is still found when the file is validated again
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, json.replace("Person 9999", "Person 1").getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalValueException.class, () -> new JsonTaskBookReader(filePath).read());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIOException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        Files.write(filePath, "{\"persons\":[{\"name\":\"Alice".getBytes());
+        assertThrows(IOException.class, () -> new JsonTaskBookReader(filePath).read());
+    }
+}
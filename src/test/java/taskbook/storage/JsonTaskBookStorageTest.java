@@ -2,8 +2,10 @@ package taskbook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -104,6 +106,43 @@ public class JsonTaskBookStorageTest {
         }
     }
 
+    @Test
+    public void readTaskBook_corruptedFile_readsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JsonTaskBookStorage storage = new JsonTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        TaskBook modified = new TaskBook(original);
+        modified.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(modified);
+
+        Files.write(filePath, "{\"persons\": [".getBytes());
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        Files.delete(filePath);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void readAndSaveTaskBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json.gz");
+        Path plainFilePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JsonTaskBookStorage storage = new JsonTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        new JsonTaskBookStorage(plainFilePath).saveTaskBook(original);
+        assertTrue(Files.size(filePath) < Files.size(plainFilePath));
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        // the backup is kept compressed and is still readable
+        TaskBook modified = new TaskBook(original);
+        modified.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(modified);
+        Files.delete(filePath);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
     @Test
     public void saveTaskBook_nullFilePath_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> saveTaskBook(new TaskBook(), null));
@@ -0,0 +1,63 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JsonTaskBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_pretty_sameAsSerializableTaskBook() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookWriter(false).write(filePath, original.getPersonList(), original.getTaskList());
+
+        // the version that validated the records, followed by the same records and the checksum
+        String expected = JsonUtil.toJsonString(new JsonSerializableTaskBook(original));
+        String written = new String(Files.readAllBytes(filePath));
+        int expectedRecordsStart = expected.indexOf("\"persons\"");
+        int writtenRecordsStart = written.indexOf("\"persons\"");
+        int recordsEnd = expected.lastIndexOf(']') + 1;
+        assertEquals(expected.substring(expectedRecordsStart, recordsEnd),
+                written.substring(writtenRecordsStart, writtenRecordsStart + recordsEnd - expectedRecordsStart));
+        assertTrue(written.substring(0, writtenRecordsStart).contains(JsonTaskBookWriter.VALIDATED_BY));
+        assertTrue(written.substring(writtenRecordsStart).contains(JsonTaskBookWriter.CHECKSUM_FIELD));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path filePath = testFolder.resolve("taskbook.json");
+        new JsonTaskBookWriter(true).write(filePath, original.getPersonList(), original.getTaskList(),
+                Collections.singletonMap("generation", 3L));
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        JsonTaskBookReader reader = new JsonTaskBookReader(filePath);
+        assertEquals(original, reader.read());
+        assertEquals("3", reader.getOtherField("generation").get());
+    }
+
+    @Test
+    public void write_existingLongerFile_truncated() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JsonTaskBookWriter(false).write(filePath, original.getPersonList(), original.getTaskList());
+
+        TaskBook empty = new TaskBook();
+        new JsonTaskBookWriter(true).write(filePath, empty.getPersonList(), empty.getTaskList());
+        assertEquals(empty, new JsonTaskBookReader(filePath).read());
+    }
+}
@@ -0,0 +1,45 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static taskbook.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.BATCH_SIZE * 8 + 3;
+
+    private final List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_validRecords_convertedInOrder() throws Exception {
+        List<String> converted = ParallelRecordConverter.convertAll(records, String::valueOf);
+        assertEquals(records.stream().map(String::valueOf).collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertAll_fewRecords_convertedInOrder() throws Exception {
+        assertEquals(List.of("1", "2"), ParallelRecordConverter.convertAll(List.of(1, 2), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_invalidRecords_firstErrorInOrderReported() {
+        int lastBatchRecord = RECORD_COUNT - 2;
+        int firstBatchRecord = 7;
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThrows(IllegalValueException.class, "invalid " + firstBatchRecord, () ->
+                    ParallelRecordConverter.convertAll(records, record -> {
+                        if (record == firstBatchRecord || record == lastBatchRecord) {
+                            throw new IllegalValueException("invalid " + record);
+                        }
+                        return record;
+                    }));
+        }
+    }
+}
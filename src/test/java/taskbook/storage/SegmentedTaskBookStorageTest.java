@@ -0,0 +1,143 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.model.task.EditTaskDescriptor;
+import taskbook.model.task.Task;
+import taskbook.testutil.TypicalTaskBook;
+
+public class SegmentedTaskBookStorageTest {
+
+    private static final FileTime LONG_AGO = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedTaskBookStorage(testFolder.resolve("missing")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("taskbook.segments");
+        SegmentedTaskBookStorage storage = new SegmentedTaskBookStorage(directoryPath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+
+        storage.saveTaskBook(original);
+        for (String segment : new String[] {"persons", "active", "done-2022-11", "done-2022-10"}) {
+            assertTrue(Files.exists(getSegmentFile(directoryPath, segment).get()));
+        }
+        assertEquals(original, new TaskBook(new SegmentedTaskBookStorage(directoryPath).readTaskBook().get()));
+
+        original.addPerson(TypicalTaskBook.HOON);
+        original.deleteTask(TypicalTaskBook.EATING);
+        original.addTask(TypicalTaskBook.EATING);
+        storage.saveTaskBook(original);
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            // only the files of the latest generation are left
+            assertEquals(5, files.count());
+        }
+        assertEquals(original, new TaskBook(new SegmentedTaskBookStorage(directoryPath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_taskMarked_onlyTouchedSegmentsRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("taskbook.segments");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new SegmentedTaskBookStorage(directoryPath).saveTaskBook(original);
+        Path[] untouched = {getSegmentFile(directoryPath, "persons").get(),
+            getSegmentFile(directoryPath, "done-2022-11").get(), getSegmentFile(directoryPath, "done-2022-10").get()};
+        for (Path segment : untouched) {
+            Files.setLastModifiedTime(segment, LONG_AGO);
+        }
+
+        // a fresh storage learns what is on disk from reading it
+        SegmentedTaskBookStorage storage = new SegmentedTaskBookStorage(directoryPath);
+        storage.readTaskBook();
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setIsDone(true);
+        Task marked = TypicalTaskBook.SLEEPING.createEditedCopy(descriptor);
+        original.setTask(TypicalTaskBook.SLEEPING, marked);
+        storage.saveTaskBook(original);
+
+        for (Path segment : untouched) {
+            assertEquals(LONG_AGO, Files.getLastModifiedTime(segment));
+        }
+        assertFalse(getSegmentFile(directoryPath, "active").isPresent());
+        assertTrue(getSegmentFile(directoryPath, "done-undated").isPresent());
+        assertEquals(original, new TaskBook(new SegmentedTaskBookStorage(directoryPath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_saveCutShortBetweenSegments_previousGenerationRead() throws Exception {
+        Path directoryPath = testFolder.resolve("taskbook.segments");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        SegmentedTaskBookStorage storage = new SegmentedTaskBookStorage(directoryPath);
+        storage.saveTaskBook(original);
+
+        // a crash after the done segment of a marked task is written, but before the manifest is replaced
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setIsDone(true);
+        TaskBook marked = new TaskBook(original);
+        marked.setTask(TypicalTaskBook.SLEEPING, TypicalTaskBook.SLEEPING.createEditedCopy(descriptor));
+        Path otherDirectoryPath = testFolder.resolve("other.segments");
+        new SegmentedTaskBookStorage(otherDirectoryPath).saveTaskBook(marked);
+        Files.copy(getSegmentFile(otherDirectoryPath, "done-undated").get(),
+                directoryPath.resolve("done-undated.9.json"));
+
+        SegmentedTaskBookStorage restarted = new SegmentedTaskBookStorage(directoryPath);
+        assertEquals(original, new TaskBook(restarted.readTaskBook().get()));
+
+        // the files of the save cut short are cleaned up by the next save
+        restarted.saveTaskBook(marked);
+        assertFalse(Files.exists(directoryPath.resolve("done-undated.9.json")));
+        assertEquals(marked, new TaskBook(new SegmentedTaskBookStorage(directoryPath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_segmentsWithoutManifest_readAndReplaced() throws Exception {
+        Path directoryPath = testFolder.resolve("taskbook.segments");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new SegmentedTaskBookStorage(directoryPath).saveTaskBook(original);
+        Files.delete(directoryPath.resolve(SegmentedTaskBookStorage.MANIFEST_FILE));
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                // the layout before the manifest, with one file per segment named after it
+                String fileName = file.getFileName().toString();
+                Files.move(file, file.resolveSibling(fileName.replaceFirst("\\.\\d+\\.json$", ".json")));
+            }
+        }
+
+        SegmentedTaskBookStorage storage = new SegmentedTaskBookStorage(directoryPath);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+        original.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(original);
+        assertTrue(Files.exists(directoryPath.resolve(SegmentedTaskBookStorage.MANIFEST_FILE)));
+        assertEquals(original, new TaskBook(new SegmentedTaskBookStorage(directoryPath).readTaskBook().get()));
+    }
+
+    /**
+     * Returns the file holding {@code segmentName} according to the manifest in {@code directoryPath}.
+     */
+    private static Optional<Path> getSegmentFile(Path directoryPath, String segmentName) throws Exception {
+        JsonSerializableSegmentManifest manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(SegmentedTaskBookStorage.MANIFEST_FILE), JsonSerializableSegmentManifest.class)
+                .get();
+        return Optional.ofNullable(manifest.getSegmentFiles().get(segmentName)).map(directoryPath::resolve);
+    }
+}
@@ -0,0 +1,131 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.TaskBook;
+import taskbook.model.person.Person;
+import taskbook.testutil.PersonBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class SnapshotTaskBookStorageTest {
+
+    private static final Instant START = Instant.parse("2022-11-01T00:00:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    private SnapshotTaskBookStorage createStorage(Clock clock) {
+        return createStorage(testFolder, clock);
+    }
+
+    private static SnapshotTaskBookStorage createStorage(Path folder, Clock clock) {
+        return new SnapshotTaskBookStorage(new JsonTaskBookStorage(folder.resolve("taskbook.json")),
+                folder.resolve("taskbook.backups"), clock);
+    }
+
+    @Test
+    public void saveTaskBook_withinInterval_oneSnapshot() throws Exception {
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        SnapshotTaskBookStorage storage = createStorage(Clock.fixed(START, ZoneOffset.UTC));
+
+        storage.saveTaskBook(taskBook);
+        taskBook.addPerson(TypicalTaskBook.HOON);
+        storage.saveTaskBook(taskBook);
+
+        assertEquals(List.of(START), storage.getGenerations());
+        assertEquals(TypicalTaskBook.getTypicalTaskBook(), new TaskBook(storage.readGeneration(START)));
+    }
+
+    @Test
+    public void snapshot_oneRecordChanged_unchangedChunksShared() throws Exception {
+        TaskBook taskBook = largeTaskBook();
+        SnapshotTaskBookStorage storage = createStorage(Clock.fixed(START, ZoneOffset.UTC));
+
+        storage.snapshot(taskBook, START);
+        List<Path> chunksBefore = listChunks();
+        TaskBook first = new TaskBook(taskBook);
+        taskBook.addPerson(TypicalTaskBook.HOON);
+        storage.snapshot(taskBook, START.plus(Duration.ofHours(1)));
+
+        // only the last chunk of persons changes, so at most one chunk is added
+        List<Path> chunksAfter = listChunks();
+        assertTrue(chunksAfter.containsAll(chunksBefore));
+        assertEquals(chunksBefore.size() + 1, chunksAfter.size());
+        assertEquals(first, new TaskBook(storage.readGeneration(START)));
+        assertEquals(taskBook, new TaskBook(storage.readGeneration(START.plus(Duration.ofHours(1)))));
+    }
+
+    @Test
+    public void snapshot_manyGenerations_oldOnesPruned() throws Exception {
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        SnapshotTaskBookStorage storage = createStorage(Clock.fixed(START, ZoneOffset.UTC));
+
+        Instant last = START;
+        for (int i = 0; i < 24 * 40; i++) {
+            last = START.plus(Duration.ofHours(i));
+            storage.snapshot(taskBook, last);
+        }
+
+        List<Instant> generations = storage.getGenerations();
+        assertEquals(last, generations.get(0));
+        // the newest hours, then one a day for the days before them
+        assertEquals(SnapshotTaskBookStorage.HOURLY_GENERATIONS + SnapshotTaskBookStorage.DAILY_GENERATIONS - 1,
+                generations.size());
+        assertEquals(taskBook, new TaskBook(storage.readGeneration(generations.get(generations.size() - 1))));
+    }
+
+    @Test
+    public void snapshot_generationDropped_unheldChunksDeleted() throws Exception {
+        SnapshotTaskBookStorage storage = createStorage(Clock.fixed(START, ZoneOffset.UTC));
+        storage.snapshot(largeTaskBook(), START);
+        TaskBook typical = TypicalTaskBook.getTypicalTaskBook();
+        for (int i = 1; i <= SnapshotTaskBookStorage.DAILY_GENERATIONS; i++) {
+            storage.snapshot(typical, START.plus(Duration.ofDays(i)));
+        }
+        assertEquals(SnapshotTaskBookStorage.DAILY_GENERATIONS, storage.getGenerations().size());
+
+        // only the chunks of the typical task book are left
+        Path otherFolder = Files.createDirectory(testFolder.resolve("other"));
+        createStorage(otherFolder, Clock.fixed(START, ZoneOffset.UTC)).snapshot(typical, START);
+        assertEquals(getFileNames(listChunks(otherFolder)), getFileNames(listChunks(testFolder)));
+    }
+
+    private static TaskBook largeTaskBook() {
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        for (int i = 0; i < 300; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            taskBook.addPerson(person);
+        }
+        return taskBook;
+    }
+
+    private List<Path> listChunks() throws IOException {
+        return listChunks(testFolder);
+    }
+
+    private static List<Path> listChunks(Path folder) throws IOException {
+        try (Stream<Path> chunks = Files.list(folder.resolve("taskbook.backups").resolve("chunks"))) {
+            return chunks.collect(Collectors.toList());
+        }
+    }
+
+    private static Set<String> getFileNames(List<Path> paths) {
+        return paths.stream().map(path -> path.getFileName().toString()).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,84 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.TaskBook;
+import taskbook.model.task.EditTaskDescriptor;
+import taskbook.model.task.Task;
+import taskbook.testutil.TypicalTaskBook;
+
+public class SqlTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlTaskBookStorage(testFolder.resolve("missing.db")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.db");
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+
+        original.addPerson(TypicalTaskBook.HOON);
+        original.deleteTask(TypicalTaskBook.EATING);
+        original.addTask(TypicalTaskBook.EATING);
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_taskMarked_onlyTouchedRowReplaced() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.db");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new SqlTaskBookStorage(filePath).saveTaskBook(original);
+        List<Long> idsBefore = readTaskIds(filePath);
+
+        // a fresh storage learns what is in the database from reading it
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+        storage.readTaskBook();
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setIsDone(true);
+        Task marked = TypicalTaskBook.SLEEPING.createEditedCopy(descriptor);
+        original.setTask(TypicalTaskBook.SLEEPING, marked);
+        storage.saveTaskBook(original);
+
+        List<Long> idsAfter = readTaskIds(filePath);
+        int index = original.getTaskList().indexOf(marked);
+        assertEquals(idsBefore.size(), idsAfter.size());
+        for (int i = 0; i < idsBefore.size(); i++) {
+            assertEquals(i != index, idsBefore.get(i).equals(idsAfter.get(i)));
+        }
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    private static List<Long> readTaskIds(Path filePath) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(SqlTaskBookStorage.JDBC_URL_PREFIX + filePath);
+                Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT id FROM tasks ORDER BY position")) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -2,8 +2,11 @@ package taskbook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,8 @@ import taskbook.commons.core.GuiSettings;
 import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.TaskBook;
 import taskbook.model.UserPrefs;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.EditTaskDescriptor;
 import taskbook.testutil.TypicalTaskBook;
 
 public class StorageManagerTest {
@@ -60,6 +65,59 @@ public class StorageManagerTest {
         assertEquals(original, new TaskBook(retrieved));
     }
 
+    @Test
+    public void saveTaskBook_unchangedContent_writeSkipped() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storageManager.saveTaskBook(original);
+        storageManager.saveTaskBook(new TaskBook(original));
+        assertEquals(1, storageManager.getPerformedTaskBookWriteCount());
+        assertEquals(1, storageManager.getSkippedTaskBookWriteCount());
+
+        // a deadline moved to another date is written
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setDate(TypicalTaskBook.OCT_ELEVEN);
+        original.setTask(TypicalTaskBook.EATING, TypicalTaskBook.EATING.createEditedCopy(descriptor));
+        storageManager.saveTaskBook(original);
+        assertEquals(2, storageManager.getPerformedTaskBookWriteCount());
+        assertEquals(TypicalTaskBook.OCT_ELEVEN,
+                ((Deadline) storageManager.readTaskBook().get().getTaskList().get(0)).getDate());
+
+        // a deleted file is written again
+        Files.delete(storageManager.getTaskBookFilePath());
+        storageManager.saveTaskBook(original);
+        assertEquals(3, storageManager.getPerformedTaskBookWriteCount());
+        assertTrue(Files.exists(storageManager.getTaskBookFilePath()));
+    }
+
+    @Test
+    public void saveTaskBook_afterExternalChange_writtenEvenIfUnchanged() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storageManager.saveTaskBook(original);
+
+        // another tool writes a different task book, which the user then reverts in the app
+        TaskBook external = new TaskBook(original);
+        external.addPerson(TypicalTaskBook.HOON);
+        new JsonTaskBookStorage(storageManager.getTaskBookFilePath()).saveTaskBook(external);
+        storageManager.notifyTaskBookChangedExternally();
+        storageManager.saveTaskBook(original);
+
+        assertEquals(2, storageManager.getPerformedTaskBookWriteCount());
+        assertEquals(original, new TaskBook(storageManager.readTaskBook().get()));
+    }
+
+    @Test
+    public void getLastTaskBookWriteLatencyMillis_backgroundSaves_reportedOnceWritten() throws Exception {
+        assertEquals(Optional.empty(), storageManager.getLastTaskBookWriteLatencyMillis());
+        storageManager.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        assertEquals(Optional.empty(), storageManager.getLastTaskBookWriteLatencyMillis());
+
+        StorageManager backgroundStorageManager = new StorageManager(new JsonTaskBookStorage(getTempFilePath("bg")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        assertEquals(Optional.empty(), backgroundStorageManager.getLastTaskBookWriteLatencyMillis());
+        backgroundStorageManager.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        assertTrue(backgroundStorageManager.getLastTaskBookWriteLatencyMillis().isPresent());
+    }
+
     @Test
     public void gettaskBookFilePath() {
         assertNotNull(storageManager.getTaskBookFilePath());
@@ -0,0 +1,66 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.TaskBook;
+import taskbook.testutil.TypicalTaskBook;
+
+public class TaskBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_bothWays_sameTaskBook() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path jsonFilePath = testFolder.resolve("taskbook.json");
+        Path binaryFilePath = testFolder.resolve("taskbook.tbk");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        new JsonTaskBookStorage(jsonFilePath).saveTaskBook(original);
+
+        assertTrue(TaskBookConverter.jsonToBinary(jsonFilePath, binaryFilePath));
+        assertEquals(original, new TaskBook(new BinaryTaskBookStorage(binaryFilePath).readTaskBook().get()));
+
+        assertTrue(TaskBookConverter.binaryToJson(binaryFilePath, exportedFilePath));
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(exportedFilePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(TaskBookConverter.jsonToBinary(testFolder.resolve("missing.json"),
+                testFolder.resolve("taskbook.tbk")));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "taskbook.tbk"), TaskBookConverter.getBinaryFilePath(
+                Paths.get("data", "taskbook.json")));
+        assertEquals(Paths.get("taskbook.tbk"), TaskBookConverter.getBinaryFilePath(Paths.get("taskbook")));
+    }
+
+    @Test
+    public void getSegmentsDirectoryPath() {
+        assertEquals(Paths.get("data", "taskbook.segments"), TaskBookConverter.getSegmentsDirectoryPath(
+                Paths.get("data", "taskbook.json")));
+    }
+
+    @Test
+    public void getDatabaseFilePath() {
+        assertEquals(Paths.get("data", "taskbook.db"), TaskBookConverter.getDatabaseFilePath(
+                Paths.get("data", "taskbook.json")));
+    }
+
+    @Test
+    public void getBackupsDirectoryPath() {
+        assertEquals(Paths.get("data", "taskbook.backups"), TaskBookConverter.getBackupsDirectoryPath(
+                Paths.get("data", "taskbook.json")));
+    }
+}
@@ -0,0 +1,119 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.testutil.TypicalTaskBook;
+
+public class WatchedTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyTaskBook> reported = new ArrayList<>();
+
+    @Test
+    public void checkForExternalChange_ownSave_notReported() throws Exception {
+        WatchedTaskBookStorage storage =
+                new WatchedTaskBookStorage(new JsonTaskBookStorage(testFolder.resolve("taskbook.json")));
+        storage.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+
+        storage.checkForExternalChange((base, changed) -> reported.add(changed));
+        assertTrue(reported.isEmpty());
+    }
+
+    @Test
+    public void checkForExternalChange_otherSave_changeReported() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        WatchedTaskBookStorage storage = new WatchedTaskBookStorage(new JsonTaskBookStorage(filePath));
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        storage.saveTaskBook(original);
+
+        TaskBook changed = new TaskBook(original);
+        changed.addPerson(TypicalTaskBook.HOON);
+        new JsonTaskBookStorage(filePath).saveTaskBook(changed);
+
+        storage.checkForExternalChange((base, read) -> {
+            reported.add(base);
+            reported.add(read);
+        });
+        assertEquals(original, new TaskBook(reported.get(0)));
+        assertEquals(changed, new TaskBook(reported.get(1)));
+
+        // the same change is reported only once
+        storage.checkForExternalChange((base, read) -> reported.add(read));
+        assertEquals(2, reported.size());
+    }
+
+    @Test
+    public void checkForExternalChange_savedSnapshot_rememberedWithoutCopying() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        WatchedTaskBookStorage storage = new WatchedTaskBookStorage(new JsonTaskBookStorage(filePath));
+        TaskBookSnapshot saved = TaskBookSnapshot.of(TypicalTaskBook.getTypicalTaskBook());
+        storage.saveTaskBook(saved);
+
+        new JsonTaskBookStorage(filePath).saveTaskBook(new TaskBook());
+        storage.checkForExternalChange((base, read) -> reported.add(base));
+        assertSame(saved, reported.get(0));
+    }
+
+    @Test
+    public void checkForExternalChange_otherFilesWithSamePrefix_notRead() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        List<Path> readPaths = new ArrayList<>();
+        WatchedTaskBookStorage storage = new WatchedTaskBookStorage(new JsonTaskBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyTaskBook> readTaskBook(Path path) throws DataConversionException {
+                readPaths.add(path);
+                return super.readTaskBook(path);
+            }
+        });
+        storage.saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+
+        Files.writeString(testFolder.resolve("taskbook.json.bak"), "backup");
+        Files.writeString(testFolder.resolve("taskbook.json.journal.3"), "journal moved aside");
+        storage.checkForExternalChange((base, read) -> reported.add(read));
+        assertTrue(readPaths.isEmpty());
+
+        Files.writeString(filePath, "{}");
+        storage.checkForExternalChange((base, read) -> reported.add(read));
+        assertEquals(List.of(filePath), readPaths);
+    }
+
+    @Test
+    public void startWatching_otherSave_listenerCalled() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        CountDownLatch latch = new CountDownLatch(1);
+        try (WatchedTaskBookStorage storage = new WatchedTaskBookStorage(new JsonTaskBookStorage(filePath))) {
+            storage.saveTaskBook(original);
+            storage.startWatching((base, changed) -> {
+                reported.add(changed);
+                latch.countDown();
+            });
+
+            TaskBook changed = new TaskBook(original);
+            changed.deleteTask(TypicalTaskBook.EATING);
+            new JsonTaskBookStorage(filePath).saveTaskBook(changed);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(1, reported.size());
+            assertEquals(changed, new TaskBook(reported.get(0)));
+        }
+    }
+}